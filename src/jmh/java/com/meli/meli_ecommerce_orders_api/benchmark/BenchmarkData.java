@@ -0,0 +1,99 @@
+package com.meli.meli_ecommerce_orders_api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.meli.meli_ecommerce_orders_api.dto.CreateOrderRequest;
+import com.meli.meli_ecommerce_orders_api.dto.OrderLineItemRequest;
+import com.meli.meli_ecommerce_orders_api.dto.OrderResponse;
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import com.meli.meli_ecommerce_orders_api.model.OrderLineItem;
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fixtures shared by the benchmarks. Values are fixed so runs are comparable.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {}
+
+    /**
+     * Builds an object mapper configured the way Spring Boot configures the one used by MVC.
+     *
+     * @param blackbird whether to install the Blackbird module, as {@code JacksonConfig} does
+     * @return the object mapper
+     */
+    static ObjectMapper objectMapper(boolean blackbird) {
+        return objectMapper("json", blackbird);
+    }
+
+    /**
+     * Builds an object mapper for one of the formats the API negotiates, configured like
+     * {@link #objectMapper(boolean)}.
+     *
+     * @param format    {@code json}, {@code cbor} or {@code smile}
+     * @param blackbird whether to install the Blackbird module
+     * @return the object mapper
+     */
+    static ObjectMapper objectMapper(String format, boolean blackbird) {
+        Jackson2ObjectMapperBuilder builder = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        if (blackbird) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        return builder.build();
+    }
+
+    static CreateOrderRequest createOrderRequest(int itemCount) {
+        List<OrderLineItemRequest> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            OrderLineItemRequest item = new OrderLineItemRequest();
+            item.setProductId(new UUID(0, i));
+            item.setProductName("Product " + i);
+            item.setQuantity(1 + i % 5);
+            item.setPricePerUnit(new BigDecimal("19.99").add(BigDecimal.valueOf(i, 2)));
+            items.add(item);
+        }
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setCreatedBy(new UUID(1, 1));
+        request.setItems(items);
+        return request;
+    }
+
+    static OrderResponse orderResponse(int itemCount) {
+        return OrderResponse.from(order(itemCount));
+    }
+
+    static Order order(int itemCount) {
+        Order order = new Order();
+        order.setId(new UUID(2, itemCount));
+        order.setCreatedBy(new UUID(1, 1));
+        order.setStatus(OrderStatus.PENDING);
+        order.setOrderDate(LocalDateTime.of(2025, 10, 16, 19, 10));
+        order.setLastUpdatedDate(order.getOrderDate());
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            OrderLineItem item = new OrderLineItem();
+            item.setId(new UUID(3, i));
+            item.setProductId(new UUID(0, i));
+            item.setProductName("Product " + i);
+            item.setQuantity(1 + i % 5);
+            item.setPricePerUnit(new BigDecimal("19.99"));
+            item.setTotalPrice(item.getPricePerUnit().multiply(BigDecimal.valueOf(item.getQuantity())));
+            total = total.add(item.getTotalPrice());
+            order.addOrderItem(item);
+        }
+        order.setTotalPrice(total);
+        return order;
+    }
+}
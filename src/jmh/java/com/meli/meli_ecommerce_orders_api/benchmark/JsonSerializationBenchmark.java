@@ -0,0 +1,81 @@
+package com.meli.meli_ecommerce_orders_api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.meli.meli_ecommerce_orders_api.dto.ApiResponse;
+import com.meli.meli_ecommerce_orders_api.dto.CreateOrderRequest;
+import com.meli.meli_ecommerce_orders_api.dto.OrderResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Jackson cost of the order payloads: writing {@code ApiResponse<OrderResponse>} and
+ * {@code ApiResponse<List<OrderResponse>>}, and reading {@code CreateOrderRequest}, with and
+ * without the Blackbird module.
+ * Run with {@code -prof gc} (the profile default) to see bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    // Line items per order.
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    // Orders in the list response.
+    @Param({"20"})
+    private int listSize;
+
+    @Param({"false", "true"})
+    private boolean blackbird;
+
+    private ObjectWriter orderWriter;
+    private ObjectWriter orderListWriter;
+    private ObjectReader requestReader;
+
+    private ApiResponse<OrderResponse> orderResponse;
+    private ApiResponse<List<OrderResponse>> orderListResponse;
+    private byte[] requestJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper objectMapper = BenchmarkData.objectMapper(blackbird);
+        orderWriter = objectMapper.writerFor(new TypeReference<ApiResponse<OrderResponse>>() {});
+        orderListWriter = objectMapper.writerFor(new TypeReference<ApiResponse<List<OrderResponse>>>() {});
+        requestReader = objectMapper.readerFor(CreateOrderRequest.class);
+
+        orderResponse = ApiResponse.success("Order found", BenchmarkData.orderResponse(itemCount));
+        List<OrderResponse> orders = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            orders.add(BenchmarkData.orderResponse(itemCount));
+        }
+        orderListResponse = ApiResponse.success("Orders fetched successfully", orders);
+        requestJson = objectMapper.writeValueAsBytes(BenchmarkData.createOrderRequest(itemCount));
+    }
+
+    @Benchmark
+    public byte[] serializeOrder() throws JsonProcessingException {
+        return orderWriter.writeValueAsBytes(orderResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeOrderList() throws JsonProcessingException {
+        return orderListWriter.writeValueAsBytes(orderListResponse);
+    }
+
+    @Benchmark
+    public CreateOrderRequest deserializeCreateOrderRequest() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+}
@@ -0,0 +1,74 @@
+package com.meli.meli_ecommerce_orders_api.benchmark;
+
+import com.meli.meli_ecommerce_orders_api.config.OrdersProperties;
+import com.meli.meli_ecommerce_orders_api.dto.CreateOrderRequest;
+import com.meli.meli_ecommerce_orders_api.dto.OrderResponse;
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import com.meli.meli_ecommerce_orders_api.repository.OrderOutboxRepository;
+import com.meli.meli_ecommerce_orders_api.repository.OrderRepository;
+import com.meli.meli_ecommerce_orders_api.service.OrderCounters;
+import com.meli.meli_ecommerce_orders_api.service.OrderService;
+import com.meli.meli_ecommerce_orders_api.service.RecentOrderWrites;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link OrderService#createOrder}: mapping line items and computing the
+ * fixed-point {@code Money} totals, then copying the order into its response. Persistence is
+ * replaced by a repository whose {@code saveAndFlush} returns its argument and the outbox
+ * insert is a no-op, so only the in-memory work is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderCreationBenchmark {
+
+    @Param({"1", "10", "1000"})
+    private int itemCount;
+
+    private static final UUID ORDER_ID = new UUID(2, 0);
+
+    private OrderService orderService;
+    private CreateOrderRequest request;
+
+    @Setup
+    public void setUp() {
+        OrderRepository repository = (OrderRepository) Proxy.newProxyInstance(
+                OrderRepository.class.getClassLoader(),
+                new Class<?>[]{OrderRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("saveAndFlush")) {
+                        Order order = (Order) args[0];
+                        order.setId(ORDER_ID);
+                        return order;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        OrderOutboxRepository outboxRepository = (OrderOutboxRepository) Proxy.newProxyInstance(
+                OrderOutboxRepository.class.getClassLoader(),
+                new Class<?>[]{OrderOutboxRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("insertCreated")) {
+                        return 1;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        OrdersProperties properties = new OrdersProperties();
+        // Never reconciled here, so no transaction template or entity manager is needed.
+        OrderCounters counters = new OrderCounters(repository, null, null);
+        orderService = new OrderService(repository, properties, null, counters, outboxRepository,
+                new RecentOrderWrites(properties));
+        request = BenchmarkData.createOrderRequest(itemCount);
+    }
+
+    @Benchmark
+    public OrderResponse createOrder() {
+        return orderService.createOrder(request);
+    }
+}
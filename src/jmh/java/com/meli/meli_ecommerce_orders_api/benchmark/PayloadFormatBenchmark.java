@@ -0,0 +1,82 @@
+package com.meli.meli_ecommerce_orders_api.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.meli.meli_ecommerce_orders_api.dto.ApiResponse;
+import com.meli.meli_ecommerce_orders_api.dto.CreateOrderRequest;
+import com.meli.meli_ecommerce_orders_api.dto.OrderResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the wire formats the API negotiates: JSON (the default), CBOR and Smile.
+ * Encodes and decodes an {@code ApiResponse<List<OrderResponse>>} page and decodes a
+ * {@code CreateOrderRequest}. The encoded size of each payload is printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PayloadFormatBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    // Line items per order.
+    @Param({"10"})
+    private int itemCount;
+
+    // Orders in the list response.
+    @Param({"100"})
+    private int listSize;
+
+    private ObjectWriter listWriter;
+    private ObjectReader listReader;
+    private ObjectReader requestReader;
+
+    private ApiResponse<List<OrderResponse>> listResponse;
+    private byte[] listBytes;
+    private byte[] requestBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = BenchmarkData.objectMapper(format, true);
+        TypeReference<ApiResponse<List<OrderResponse>>> listType = new TypeReference<>() {};
+        listWriter = objectMapper.writerFor(listType);
+        listReader = objectMapper.readerFor(listType);
+        requestReader = objectMapper.readerFor(CreateOrderRequest.class);
+
+        List<OrderResponse> orders = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            orders.add(BenchmarkData.orderResponse(itemCount));
+        }
+        listResponse = ApiResponse.success("Orders fetched successfully", orders);
+        listBytes = listWriter.writeValueAsBytes(listResponse);
+        requestBytes = objectMapper.writeValueAsBytes(BenchmarkData.createOrderRequest(itemCount));
+        System.out.printf("%n%s: order list %d bytes, create request %d bytes%n",
+                format, listBytes.length, requestBytes.length);
+    }
+
+    @Benchmark
+    public byte[] encodeOrderList() throws IOException {
+        return listWriter.writeValueAsBytes(listResponse);
+    }
+
+    @Benchmark
+    public ApiResponse<List<OrderResponse>> decodeOrderList() throws IOException {
+        return listReader.readValue(listBytes);
+    }
+
+    @Benchmark
+    public CreateOrderRequest decodeCreateOrderRequest() throws IOException {
+        return requestReader.readValue(requestBytes);
+    }
+}
@@ -1,9 +1,14 @@
 package com.meli.meli_ecommerce_orders_api;
 
+import com.meli.meli_ecommerce_orders_api.config.OrdersRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@ImportRuntimeHints(OrdersRuntimeHints.class)
 public class MeliEcommerceOrdersApiApplication {
 
 	public static void main(String[] args) {
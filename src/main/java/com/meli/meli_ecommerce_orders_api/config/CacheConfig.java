@@ -0,0 +1,55 @@
+package com.meli.meli_ecommerce_orders_api.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Enables the in-process caches used by the service layer.
+ * <p>
+ * The cache provider is chosen per profile through {@code spring.cache.type}: Caffeine
+ * (bounded by size and TTL, see {@code spring.cache.caffeine.spec}) by default, and
+ * {@code none} on dev/test so H2 runs always hit the database.
+ * </p>
+ * <p>
+ * The caching advice is ordered just outside the transaction interceptor, so puts and
+ * evictions happen after commit: a rolled-back order is never cached, and a deleted one
+ * is evicted only once the delete is visible to other readers.
+ * </p>
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    /**
+     * Cache of active orders (with their line items) keyed by order id.
+     */
+    public static final String ORDERS_CACHE = "orders";
+
+    /**
+     * Cache of order analytics results keyed by the query parameters.
+     */
+    public static final String ORDER_ANALYTICS_CACHE = "orderAnalytics";
+
+    /**
+     * Registers the analytics cache with its own, much shorter TTL than the shared
+     * {@code spring.cache.caffeine.spec}: aggregates are never evicted on writes, so the
+     * TTL is how stale a dashboard may get.
+     *
+     * @param properties the orders properties
+     * @return the customizer, applied only when Caffeine is the cache provider
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> orderAnalyticsCacheCustomizer(OrdersProperties properties) {
+        OrdersProperties.Analytics analytics = properties.getAnalytics();
+        return cacheManager -> cacheManager.registerCustomCache(ORDER_ANALYTICS_CACHE, Caffeine.newBuilder()
+                .expireAfterWrite(analytics.getCacheTtl())
+                .maximumSize(analytics.getCacheMaxSize())
+                .recordStats()
+                .build());
+    }
+}
@@ -0,0 +1,71 @@
+package com.meli.meli_ecommerce_orders_api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Logs which thread model serves requests once the application is ready.
+ * <p>
+ * Virtual threads are opt-in through {@code spring.threads.virtual.enabled}. Spring Boot
+ * silently falls back to platform threads when the runtime is older than Java 21, so the
+ * effective mode and the connection pool size (the real concurrency limit for blocking
+ * JDBC work under virtual threads) are reported at startup.
+ * </p>
+ */
+@Component
+public class ExecutionModeReporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionModeReporter.class);
+
+    private final Environment environment;
+    private final DataSource dataSource;
+
+    /**
+     * Instantiates a new Execution mode reporter.
+     *
+     * @param environment the environment holding {@code spring.threads.virtual.enabled}
+     * @param dataSource  the application data source
+     */
+    public ExecutionModeReporter(Environment environment, DataSource dataSource) {
+        this.environment = environment;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Reports the effective execution mode.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        boolean active = Threading.VIRTUAL.isActive(environment);
+        String poolSize = primaryPool()
+                .map(hikari -> String.valueOf(hikari.getMaximumPoolSize())).orElse("n/a");
+
+        if (requested && !active) {
+            logger.warn("Virtual threads were requested but Java {} does not support them; "
+                    + "requests run on the platform thread pool", Runtime.version().feature());
+        }
+        logger.info("Request execution: {} threads (Java {}), JDBC pool size: {}",
+                active ? "virtual" : "platform", Runtime.version().feature(), poolSize);
+    }
+
+    // With a read replica the data source is a routing proxy; unwrapping reaches the primary pool.
+    private Optional<HikariDataSource> primaryPool() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                    ? Optional.of(dataSource.unwrap(HikariDataSource.class)) : Optional.empty();
+        } catch (SQLException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.meli.meli_ecommerce_orders_api.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Jackson tuning for the API's object mapper.
+ * <p>
+ * Spring Boot registers every {@link Module} bean with the auto-configured mapper.
+ * Blackbird replaces the reflective getter calls of the generated serializers with
+ * {@code LambdaMetafactory}-generated accessors, which the JIT can inline.
+ * </p>
+ * <p>
+ * Besides JSON, which stays the default, the API speaks CBOR ({@code application/cbor}) and
+ * Smile ({@code application/x-jackson-smile}) for service-to-service callers, selected by
+ * {@code Accept} and {@code Content-Type}. Both encode the same object model as JSON, in a
+ * binary form that is smaller and cheaper to parse.
+ * </p>
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Registers Blackbird with the auto-configured object mapper. A native image cannot
+     * define classes at runtime, so there an empty module is registered instead and
+     * Jackson keeps its reflective accessors.
+     *
+     * @return the module
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return NativeDetector.inNativeImage() ? new SimpleModule("blackbird-disabled") : new BlackbirdModule();
+    }
+
+    /**
+     * CBOR converter built from Boot's mapper builder, so it shares the JSON mapper's
+     * modules and settings (ISO dates, Blackbird, ...). It replaces the default converter
+     * Spring MVC would create with a plain mapper.
+     *
+     * @param builder the auto-configured mapper builder
+     * @return the converter
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.createXmlMapper(false).factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Smile converter built from Boot's mapper builder, like the CBOR one.
+     *
+     * @param builder the auto-configured mapper builder
+     * @return the converter
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.createXmlMapper(false).factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,206 @@
+package com.meli.meli_ecommerce_orders_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Tunable settings for the orders API, bound from the {@code orders.*} properties.
+ * Every value has a sensible default so profiles only need to override what differs.
+ */
+@ConfigurationProperties(prefix = "orders")
+public class OrdersProperties {
+
+    private final Pagination pagination = new Pagination();
+    private final Batch batch = new Batch();
+    private final BulkDelete bulkDelete = new BulkDelete();
+    private final Analytics analytics = new Analytics();
+    private final Counters counters = new Counters();
+    private final Outbox outbox = new Outbox();
+    private final Ingestion ingestion = new Ingestion();
+    private final Health health = new Health();
+    private final Replica replica = new Replica();
+
+    public Pagination getPagination() { return pagination; }
+    public Batch getBatch() { return batch; }
+    public BulkDelete getBulkDelete() { return bulkDelete; }
+    public Analytics getAnalytics() { return analytics; }
+    public Counters getCounters() { return counters; }
+    public Outbox getOutbox() { return outbox; }
+    public Ingestion getIngestion() { return ingestion; }
+    public Health getHealth() { return health; }
+    public Replica getReplica() { return replica; }
+
+    /**
+     * Limits applied to the cursor-paginated order listing.
+     */
+    public static class Pagination {
+        // Page size used when the client does not send a limit.
+        private int defaultPageSize = 20;
+        // Upper bound for the limit a client may request; larger values are clamped.
+        private int maxPageSize = 100;
+
+        public int getDefaultPageSize() { return defaultPageSize; }
+        public void setDefaultPageSize(int defaultPageSize) { this.defaultPageSize = defaultPageSize; }
+        public int getMaxPageSize() { return maxPageSize; }
+        public void setMaxPageSize(int maxPageSize) { this.maxPageSize = maxPageSize; }
+    }
+
+    /**
+     * Limits for bulk order creation.
+     */
+    public static class Batch {
+        // Maximum number of orders accepted in a single batch request.
+        private int maxSize = 500;
+
+        public int getMaxSize() { return maxSize; }
+        public void setMaxSize(int maxSize) { this.maxSize = maxSize; }
+    }
+
+    /**
+     * Limits for bulk soft delete.
+     */
+    public static class BulkDelete {
+        // Orders updated per transaction; bounds row locks and memory per chunk.
+        private int chunkSize = 500;
+        // Maximum number of ids accepted in a single request.
+        private int maxIds = 10000;
+
+        public int getChunkSize() { return chunkSize; }
+        public void setChunkSize(int chunkSize) { this.chunkSize = chunkSize; }
+        public int getMaxIds() { return maxIds; }
+        public void setMaxIds(int maxIds) { this.maxIds = maxIds; }
+    }
+
+    /**
+     * Limits and caching for the order analytics.
+     */
+    public static class Analytics {
+        // How long an aggregate result is served from cache before it is recomputed.
+        private Duration cacheTtl = Duration.ofSeconds(30);
+        // Maximum number of cached results (one per distinct query).
+        private long cacheMaxSize = 1000;
+        // Date range used when the client does not send "from".
+        private Duration defaultRange = Duration.ofDays(30);
+        // Upper bound for the number of groups a client may request; larger values are clamped.
+        private int maxGroups = 1000;
+
+        public Duration getCacheTtl() { return cacheTtl; }
+        public void setCacheTtl(Duration cacheTtl) { this.cacheTtl = cacheTtl; }
+        public long getCacheMaxSize() { return cacheMaxSize; }
+        public void setCacheMaxSize(long cacheMaxSize) { this.cacheMaxSize = cacheMaxSize; }
+        public Duration getDefaultRange() { return defaultRange; }
+        public void setDefaultRange(Duration defaultRange) { this.defaultRange = defaultRange; }
+        public int getMaxGroups() { return maxGroups; }
+        public void setMaxGroups(int maxGroups) { this.maxGroups = maxGroups; }
+    }
+
+    /**
+     * Settings for the live in-memory order counters.
+     */
+    public static class Counters {
+        // How often the counters are compared with, and corrected from, the database.
+        private Duration reconcileInterval = Duration.ofMinutes(5);
+
+        public Duration getReconcileInterval() { return reconcileInterval; }
+        public void setReconcileInterval(Duration reconcileInterval) { this.reconcileInterval = reconcileInterval; }
+    }
+
+    /**
+     * Settings for the order event outbox relay.
+     */
+    public static class Outbox {
+        // Events claimed, published and removed per transaction.
+        private int batchSize = 100;
+        // Pause between relay runs once the outbox has been drained.
+        private Duration pollInterval = Duration.ofSeconds(1);
+        // When set, events are appended to this file as NDJSON instead of published in-process.
+        private Path file;
+
+        public int getBatchSize() { return batchSize; }
+        public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+        public Duration getPollInterval() { return pollInterval; }
+        public void setPollInterval(Duration pollInterval) { this.pollInterval = pollInterval; }
+        public Path getFile() { return file; }
+        public void setFile(Path file) { this.file = file; }
+    }
+
+    /**
+     * Settings for the group-commit ingestion queue.
+     */
+    public static class Ingestion {
+        // Exposes POST /api/v1/orders/ingest and starts the writer thread.
+        private boolean enabled = false;
+        // Orders waiting to be written; when full, new orders are rejected with 503.
+        private int capacity = 10000;
+        // Upper bound for the number of orders committed in one transaction.
+        private int maxBatchSize = 500;
+        // How long a request waits for room in a full queue before it is rejected.
+        private Duration offerTimeout = Duration.ofMillis(100);
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public int getCapacity() { return capacity; }
+        public void setCapacity(int capacity) { this.capacity = capacity; }
+        public int getMaxBatchSize() { return maxBatchSize; }
+        public void setMaxBatchSize(int maxBatchSize) { this.maxBatchSize = maxBatchSize; }
+        public Duration getOfferTimeout() { return offerTimeout; }
+        public void setOfferTimeout(Duration offerTimeout) { this.offerTimeout = offerTimeout; }
+    }
+
+    /**
+     * Settings for the background database health probe.
+     */
+    public static class Health {
+        // Pause between two database checks.
+        private Duration probeInterval = Duration.ofSeconds(10);
+        // How long a borrowed connection may take to validate (whole seconds, at least 1).
+        private Duration probeTimeout = Duration.ofSeconds(2);
+        // A successful check older than this is reported as down (the probe is stuck).
+        private Duration maxAge = Duration.ofSeconds(60);
+
+        public Duration getProbeInterval() { return probeInterval; }
+        public void setProbeInterval(Duration probeInterval) { this.probeInterval = probeInterval; }
+        public Duration getProbeTimeout() { return probeTimeout; }
+        public void setProbeTimeout(Duration probeTimeout) { this.probeTimeout = probeTimeout; }
+        public Duration getMaxAge() { return maxAge; }
+        public void setMaxAge(Duration maxAge) { this.maxAge = maxAge; }
+    }
+
+    /**
+     * Settings for routing read-only transactions to a read replica.
+     */
+    public static class Replica {
+        // Routes read-only transactions to the replica pool. Fixed at build time in AOT images.
+        private boolean enabled = false;
+        // Connection settings of the replica; pool settings go under orders.replica.hikari.*.
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        // After the replica fails to hand out a connection, reads use the primary this long before retrying it.
+        private Duration retryInterval = Duration.ofSeconds(30);
+        // Orders written by this instance are read from the primary for this long, hiding replication lag.
+        private Duration readYourWritesWindow = Duration.ofSeconds(5);
+        // Also applies the Flyway migrations to the replica; only for local stand-ins such as a second H2 database.
+        private boolean migrate = false;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public String getUrl() { return url; }
+        public void setUrl(String url) { this.url = url; }
+        public String getUsername() { return username; }
+        public void setUsername(String username) { this.username = username; }
+        public String getPassword() { return password; }
+        public void setPassword(String password) { this.password = password; }
+        public String getDriverClassName() { return driverClassName; }
+        public void setDriverClassName(String driverClassName) { this.driverClassName = driverClassName; }
+        public Duration getRetryInterval() { return retryInterval; }
+        public void setRetryInterval(Duration retryInterval) { this.retryInterval = retryInterval; }
+        public Duration getReadYourWritesWindow() { return readYourWritesWindow; }
+        public void setReadYourWritesWindow(Duration readYourWritesWindow) { this.readYourWritesWindow = readYourWritesWindow; }
+        public boolean isMigrate() { return migrate; }
+        public void setMigrate(boolean migrate) { this.migrate = migrate; }
+    }
+}
@@ -0,0 +1,68 @@
+package com.meli.meli_ecommerce_orders_api.config;
+
+import com.meli.meli_ecommerce_orders_api.dto.ApiResponse;
+import com.meli.meli_ecommerce_orders_api.dto.BatchCreateOrderRequest;
+import com.meli.meli_ecommerce_orders_api.dto.BatchCreateOrderResponse;
+import com.meli.meli_ecommerce_orders_api.dto.BulkDeleteOrdersRequest;
+import com.meli.meli_ecommerce_orders_api.dto.BulkDeleteOrdersResponse;
+import com.meli.meli_ecommerce_orders_api.dto.CreateOrderRequest;
+import com.meli.meli_ecommerce_orders_api.dto.CursorPage;
+import com.meli.meli_ecommerce_orders_api.dto.HealthResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderAcceptedResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderAggregate;
+import com.meli.meli_ecommerce_orders_api.dto.OrderAnalyticsResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderCountersResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderEvent;
+import com.meli.meli_ecommerce_orders_api.dto.OrderLineItemRequest;
+import com.meli.meli_ecommerce_orders_api.dto.OrderLineItemResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderStatusResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderSummary;
+import com.meli.meli_ecommerce_orders_api.dto.PartialOrder;
+import com.meli.meli_ecommerce_orders_api.dto.UpdateOrderStatusRequest;
+import com.meli.meli_ecommerce_orders_api.model.AssignableUuidGenerator;
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import com.meli.meli_ecommerce_orders_api.model.OrderLineItem;
+import com.meli.meli_ecommerce_orders_api.model.OrderOutboxEvent;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Reflection and resource hints for the ahead-of-time builds (the {@code aot} and
+ * {@code native} Maven profiles).
+ * <p>
+ * Spring's AOT processing already covers the beans, the repositories and the request and
+ * response types it can see in controller signatures. This adds what it cannot infer: DTOs
+ * written by {@code ObjectMapper} directly (export, outbox file) or nested in generic
+ * wrappers, the {@code OrderSummary} constructor called by a Criteria query, the custom id
+ * generator Hibernate instantiates by reflection, and the Flyway scripts, which live in
+ * per-vendor folders instead of the default location.
+ * </p>
+ */
+public class OrdersRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final Class<?>[] JSON_TYPES = {
+            ApiResponse.class, CursorPage.class, HealthResponse.class,
+            CreateOrderRequest.class, OrderLineItemRequest.class, BatchCreateOrderRequest.class,
+            BatchCreateOrderResponse.class, UpdateOrderStatusRequest.class, OrderStatusResponse.class,
+            BulkDeleteOrdersRequest.class, BulkDeleteOrdersResponse.class, OrderAcceptedResponse.class,
+            OrderResponse.class, OrderLineItemResponse.class, OrderSummary.class, PartialOrder.class,
+            OrderAnalyticsResponse.class, OrderAggregate.class, OrderCountersResponse.class, OrderEvent.class
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), JSON_TYPES);
+
+        hints.reflection().registerType(OrderSummary.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(AssignableUuidGenerator.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        for (Class<?> entity : new Class<?>[] {Order.class, OrderLineItem.class, OrderOutboxEvent.class}) {
+            hints.reflection().registerType(entity, MemberCategory.values());
+        }
+
+        hints.resources().registerPattern("db/migration/*/*.sql");
+        hints.resources().registerPattern("db/migration/*/*.sql.conf");
+    }
+}
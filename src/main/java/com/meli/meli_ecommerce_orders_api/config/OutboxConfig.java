@@ -0,0 +1,49 @@
+package com.meli.meli_ecommerce_orders_api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meli.meli_ecommerce_orders_api.service.ApplicationEventOrderEventPublisher;
+import com.meli.meli_ecommerce_orders_api.service.FileOrderEventPublisher;
+import com.meli.meli_ecommerce_orders_api.service.OrderEventPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Chooses the {@link OrderEventPublisher} the outbox relay delivers to.
+ * <p>
+ * With {@code orders.outbox.file} set, events are appended to that file; otherwise they are
+ * published in-process as application events. A broker-backed publisher only needs to be
+ * declared as a bean to replace both.
+ * </p>
+ */
+@Configuration
+public class OutboxConfig {
+
+    /**
+     * File publisher, used when {@code orders.outbox.file} is set.
+     *
+     * @param properties   the orders configuration
+     * @param objectMapper the mapper used to serialize each event
+     * @return the publisher
+     */
+    @Bean
+    @ConditionalOnProperty("orders.outbox.file")
+    @ConditionalOnMissingBean(OrderEventPublisher.class)
+    public OrderEventPublisher fileOrderEventPublisher(OrdersProperties properties, ObjectMapper objectMapper) {
+        return new FileOrderEventPublisher(properties.getOutbox().getFile(), objectMapper);
+    }
+
+    /**
+     * In-process publisher, used when no other publisher is configured.
+     *
+     * @param applicationEventPublisher the application context's event publisher
+     * @return the publisher
+     */
+    @Bean
+    @ConditionalOnMissingBean(OrderEventPublisher.class)
+    public OrderEventPublisher applicationEventOrderEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        return new ApplicationEventOrderEventPublisher(applicationEventPublisher);
+    }
+}
@@ -0,0 +1,118 @@
+package com.meli.meli_ecommerce_orders_api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * Sends read-only transactions to a read replica, and everything else to the primary.
+ * <p>
+ * Only active with {@code orders.replica.enabled=true}. The application's data source is then
+ * a {@link LazyConnectionDataSourceProxy} over the primary pool (configured as usual through
+ * {@code spring.datasource.*}). The proxy takes the physical connection at the first statement,
+ * once the transaction is known to be read-only, and takes read-only ones from a
+ * {@link ReplicaFailoverDataSource}. Writes, and reads inside write transactions, always use
+ * the primary, and so do Flyway and Hibernate's startup checks.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "orders.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    /**
+     * The primary pool, built from {@code spring.datasource.*} like Boot's own.
+     *
+     * @param properties the {@code spring.datasource} properties
+     * @return the primary pool
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * The replica pool, built from {@code orders.replica.*}; pool settings are bound from
+     * {@code orders.replica.hikari.*}.
+     *
+     * @param properties the orders configuration
+     * @return the replica pool
+     */
+    @Bean
+    @ConfigurationProperties("orders.replica.hikari")
+    public HikariDataSource replicaDataSource(OrdersProperties properties) {
+        OrdersProperties.Replica replica = properties.getReplica();
+        if (!StringUtils.hasText(replica.getUrl())) {
+            throw new IllegalStateException("orders.replica.url must be set when orders.replica.enabled=true");
+        }
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(replica.getUsername())
+                .password(replica.getPassword())
+                .driverClassName(replica.getDriverClassName())
+                .build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    /**
+     * The data source used by JPA, Flyway and JDBC: primary for writes, replica for
+     * read-only transactions.
+     *
+     * @param primaryDataSource the primary pool
+     * @param replicaDataSource the replica pool
+     * @param properties        the orders configuration
+     * @param registry          the registry the replica availability gauge is published to
+     * @return the routing data source
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+                                 OrdersProperties properties, MeterRegistry registry) {
+        ReplicaFailoverDataSource readOnly = new ReplicaFailoverDataSource(replicaDataSource, primaryDataSource,
+                properties.getReplica().getRetryInterval());
+        Gauge.builder("orders.replica.available", readOnly, replica -> replica.isReplicaAvailable() ? 1 : 0)
+                .description("1 while read-only transactions go to the replica, 0 while they fall back to the primary")
+                .register(registry);
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(readOnly);
+        return dataSource;
+    }
+
+    /**
+     * Applies the Flyway migrations to the replica too, before the application reads from it.
+     * Only for local stand-ins (see the {@code replica} profile): a real replica receives the
+     * schema through replication.
+     *
+     * @param flyway            the primary's Flyway, whose configuration is reused
+     * @param replicaDataSource the replica pool
+     * @return the runner
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "orders.replica", name = "migrate", havingValue = "true")
+    public ApplicationRunner replicaMigration(Flyway flyway,
+                                             @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        return args -> Flyway.configure()
+                .configuration(flyway.getConfiguration())
+                .dataSource(replicaDataSource)
+                .load()
+                .migrate();
+    }
+}
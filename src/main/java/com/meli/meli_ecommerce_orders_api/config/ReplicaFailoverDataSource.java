@@ -0,0 +1,89 @@
+package com.meli.meli_ecommerce_orders_api.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Data source for read-only transactions: hands out replica connections, and primary ones
+ * while the replica is unhealthy or the caller asked for the primary (see {@link ReplicaRouting}).
+ * <p>
+ * The replica is considered unhealthy when it fails to hand out a connection. Reads then go
+ * to the primary for {@code orders.replica.retry-interval}, after which the next read tries
+ * the replica again. Only connection failures are detected: a replica that accepts connections
+ * but lags behind keeps serving reads.
+ * </p>
+ */
+public class ReplicaFailoverDataSource extends AbstractDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaFailoverDataSource.class);
+
+    private final DataSource replica;
+    private final DataSource primary;
+    private final long retryNanos;
+
+    private volatile boolean replicaDown;
+    private volatile long replicaDownAt;
+
+    private interface ConnectionSource {
+        Connection from(DataSource dataSource) throws SQLException;
+    }
+
+    /**
+     * Instantiates a new Replica failover data source.
+     *
+     * @param replica       the replica pool
+     * @param primary       the primary pool, used while the replica is unhealthy
+     * @param retryInterval how long the replica is skipped after a failure
+     */
+    public ReplicaFailoverDataSource(DataSource replica, DataSource primary, Duration retryInterval) {
+        this.replica = replica;
+        this.primary = primary;
+        this.retryNanos = retryInterval.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * @return whether read-only transactions currently go to the replica
+     */
+    public boolean isReplicaAvailable() {
+        return !replicaDown || System.nanoTime() - replicaDownAt >= retryNanos;
+    }
+
+    private Connection connect(ConnectionSource source) throws SQLException {
+        if (ReplicaRouting.isPrimaryRequired() || !isReplicaAvailable()) {
+            return source.from(primary);
+        }
+        Connection connection;
+        try {
+            connection = source.from(replica);
+        } catch (SQLException | RuntimeException e) {
+            if (!replicaDown) {
+                logger.warn("Read replica unavailable, reading from the primary for the next {} s: {}",
+                        Duration.ofNanos(retryNanos).toSeconds(), e.getMessage());
+            }
+            replicaDownAt = System.nanoTime();
+            replicaDown = true;
+            return source.from(primary);
+        }
+        if (replicaDown) {
+            replicaDown = false;
+            logger.info("Read replica is available again");
+        }
+        return connection;
+    }
+}
@@ -0,0 +1,46 @@
+package com.meli.meli_ecommerce_orders_api.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Lets a read-only operation insist on the primary database, for reads that must see the
+ * latest commit (read-your-writes, ETag validation).
+ * <p>
+ * Connections are taken lazily, at the first statement of a transaction, so calling
+ * {@link #onPrimary} inside a {@code @Transactional(readOnly = true)} method still decides
+ * where that transaction reads from. Without a replica it has no effect.
+ * </p>
+ */
+public final class ReplicaRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReplicaRouting() {
+    }
+
+    /**
+     * Runs {@code reads} with every connection taken from the primary.
+     *
+     * @param reads the reads to run
+     * @param <T>   the result type
+     * @return the result of {@code reads}
+     */
+    public static <T> T onPrimary(Supplier<T> reads) {
+        Boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return reads.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_REQUIRED.remove();
+            }
+        }
+    }
+
+    /**
+     * @return whether the current thread is inside {@link #onPrimary}
+     */
+    static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+}
@@ -1,10 +1,15 @@
 package com.meli.meli_ecommerce_orders_api.config;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
@@ -19,8 +24,10 @@ public class WebConfig {
             @Override
             public void addCorsMappings(@NonNull CorsRegistry registry) {
                 var config = registry.addMapping("/**")
-                        .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
-                        .allowedHeaders("*");
+                        .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
+                        .allowedHeaders("*")
+                        // Lets browser clients read the ETag to send it back as If-None-Match.
+                        .exposedHeaders("ETag");
                 if ("*".equals(corsOrigin)) {
                     config.allowedOriginPatterns("*")
                           .allowCredentials(false);
@@ -31,4 +38,23 @@ public class WebConfig {
             }
         };
     }
+
+    @Bean
+    public WebMvcConfigurer varyOnAcceptConfigurer() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(@NonNull InterceptorRegistry registry) {
+                // The API answers the same URL in JSON, CBOR or Smile, so shared caches must key responses
+                // on Accept. Added before the handler runs so 304 responses carry it too.
+                registry.addInterceptor(new HandlerInterceptor() {
+                    @Override
+                    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                             @NonNull Object handler) {
+                        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                        return true;
+                    }
+                }).addPathPatterns("/api/**");
+            }
+        };
+    }
 }
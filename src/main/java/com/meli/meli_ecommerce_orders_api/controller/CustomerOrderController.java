@@ -0,0 +1,61 @@
+package com.meli.meli_ecommerce_orders_api.controller;
+
+import com.meli.meli_ecommerce_orders_api.dto.ApiResponse;
+import com.meli.meli_ecommerce_orders_api.dto.CursorPage;
+import com.meli.meli_ecommerce_orders_api.dto.OrderField;
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+import com.meli.meli_ecommerce_orders_api.service.OrderService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Order history of a single customer ("My orders").
+ * <p>
+ * Same contract as {@code GET /api/v1/orders?createdBy=}, exposed as a nested resource.
+ * The query is an index range scan on {@code (created_by, order_date, id)}, so its cost
+ * depends on the page size, not on how many orders exist in total.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/v1/customers/{customerId}/orders")
+public class CustomerOrderController {
+    private final OrderService orderService;
+
+    /**
+     * Instantiates a new Customer order controller.
+     *
+     * @param orderService the order service
+     */
+    @Autowired
+    public CustomerOrderController(OrderService orderService) {
+        this.orderService = orderService;
+    }
+
+    /**
+     * Gets a page of the customer's active orders, newest first.
+     *
+     * @param customerId the customer id ({@code createdBy} of the orders)
+     * @param cursor     the cursor returned as {@code next} by the previous page
+     * @param limit      the maximum number of orders to return
+     * @param status     optional status filter
+     * @param fields     optional comma-separated fields to return, e.g. {@code id,status,totalPrice}
+     * @return the page of orders
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<CursorPage<?>>> getCustomerOrders(
+            @PathVariable UUID customerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) String fields) {
+        Set<OrderField> selected = OrderField.parse(fields);
+        CursorPage<?> orders = selected == null
+                ? orderService.getActiveOrders(cursor, limit, status, customerId)
+                : orderService.getActiveOrders(cursor, limit, status, customerId, selected);
+        return ResponseEntity.ok(ApiResponse.success("Orders fetched successfully", orders));
+    }
+}
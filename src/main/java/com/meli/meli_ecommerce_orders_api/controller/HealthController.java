@@ -2,8 +2,7 @@ package com.meli.meli_ecommerce_orders_api.controller;
 
 import com.meli.meli_ecommerce_orders_api.dto.ApiResponse;
 import com.meli.meli_ecommerce_orders_api.dto.HealthResponse;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.meli.meli_ecommerce_orders_api.service.DatabaseHealthProbe;
 import org.springframework.core.env.Environment;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -11,96 +10,92 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import javax.sql.DataSource;
-import java.sql.Connection;
-import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 
 /**
  * Health check controller to monitor service status and database connectivity.
+ * <p>
+ * Database connectivity is checked in the background by {@link DatabaseHealthProbe}; these
+ * endpoints only read its last result, so they never wait on the database. Liveness does not
+ * look at the database at all: a slow or exhausted connection pool makes the instance not
+ * ready, but must not get it restarted.
+ * </p>
  */
 @RestController
 @RequestMapping("/api/v1")
 public class HealthController {
 
-    private static final Logger logger = LoggerFactory.getLogger(HealthController.class);
     private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    private static final String SERVICE_NAME = "meli-ecommerce-orders-api";
 
-    private final DataSource dataSource;
-    private final Environment environment;
+    private final DatabaseHealthProbe databaseHealthProbe;
+    private final String activeProfile;
 
-    public HealthController(DataSource dataSource, Environment environment) {
-        this.dataSource = dataSource;
-        this.environment = environment;
+    public HealthController(DatabaseHealthProbe databaseHealthProbe, Environment environment) {
+        this.databaseHealthProbe = databaseHealthProbe;
+        this.activeProfile = getActiveProfile(environment);
     }
 
     /**
-     * Health check endpoint that verifies service status and database connectivity.
+     * Health check endpoint reporting service status, environment and the last database check.
      *
-     * @return Health check response with service status, environment, and database status
+     * @return Health check response with service status, environment, and database status;
+     *         503 when the last database check failed
      */
     @GetMapping("/health")
     public ResponseEntity<ApiResponse<HealthResponse>> healthCheck() {
-        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMATTER);
-        String activeProfile = getActiveProfile();
-        
-        logger.info("[{}] Health check requested - Environment: {}", timestamp, activeProfile);
+        return readiness("Health check completed");
+    }
+
+    /**
+     * Liveness check: answers as long as the application can serve requests, whatever the
+     * state of the database. Use it for restart decisions.
+     *
+     * @return always 200 with status UP
+     */
+    @GetMapping("/health/live")
+    public ResponseEntity<ApiResponse<HealthResponse>> liveness() {
+        HealthResponse healthResponse = new HealthResponse("UP", activeProfile, null, now(), SERVICE_NAME);
+        return ResponseEntity.ok(ApiResponse.success("Service is alive", healthResponse));
+    }
+
+    /**
+     * Readiness check: whether the instance should receive traffic, based on the last
+     * database check. Use it for routing decisions, not for restarts.
+     *
+     * @return 200 when the database was reachable at the last check, 503 otherwise
+     */
+    @GetMapping("/health/ready")
+    public ResponseEntity<ApiResponse<HealthResponse>> readiness() {
+        return readiness("Readiness check completed");
+    }
 
-        // Check database connectivity
-        HealthResponse.DatabaseStatus dbStatus = checkDatabaseConnection();
-        
-        // Determine overall service status
-        String serviceStatus = dbStatus.isConnected() ? "UP" : "DOWN";
-        String serviceName = "meli-ecommerce-orders-api";
+    private ResponseEntity<ApiResponse<HealthResponse>> readiness(String message) {
+        DatabaseHealthProbe.Snapshot snapshot = databaseHealthProbe.snapshot();
+        String checkedAt = snapshot.checkedAt() == null ? null
+                : LocalDateTime.ofInstant(snapshot.checkedAt(), ZoneId.systemDefault()).format(TIMESTAMP_FORMATTER);
+        HealthResponse.DatabaseStatus dbStatus =
+                new HealthResponse.DatabaseStatus(snapshot.connected(), snapshot.message(), checkedAt);
 
         HealthResponse healthResponse = new HealthResponse(
-            serviceStatus,
+            snapshot.connected() ? "UP" : "DOWN",
             activeProfile,
             dbStatus,
-            timestamp,
-            serviceName
+            now(),
+            SERVICE_NAME
         );
 
-        // Log the health check result
-        if (dbStatus.isConnected()) {
-            logger.info("[{}] Health check completed - Status: UP, Environment: {}, Database: Connected", 
-                timestamp, activeProfile);
-        } else {
-            logger.warn("[{}] Health check completed - Status: DOWN, Environment: {}, Database: {} - {}", 
-                timestamp, activeProfile, dbStatus.isConnected() ? "Connected" : "Disconnected", dbStatus.getMessage());
-        }
-
-        HttpStatus httpStatus = dbStatus.isConnected() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        HttpStatus httpStatus = snapshot.connected() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
 
         return ResponseEntity
             .status(httpStatus)
-            .body(ApiResponse.success("Health check completed", healthResponse));
+            .body(ApiResponse.success(message, healthResponse));
     }
 
-    /**
-     * Checks database connectivity by attempting to get a connection.
-     *
-     * @return DatabaseStatus with connection status and message
-     */
-    private HealthResponse.DatabaseStatus checkDatabaseConnection() {
-        try (Connection connection = dataSource.getConnection()) {
-            boolean isValid = connection.isValid(5); // 5 second timeout
-            
-            if (isValid) {
-                String dbProduct = connection.getMetaData().getDatabaseProductName();
-                String dbVersion = connection.getMetaData().getDatabaseProductVersion();
-                return new HealthResponse.DatabaseStatus(
-                    true, 
-                    String.format("Connected to %s %s", dbProduct, dbVersion)
-                );
-            } else {
-                return new HealthResponse.DatabaseStatus(false, "Connection validation failed");
-            }
-        } catch (SQLException e) {
-            logger.error("Database connection check failed: {}", e.getMessage());
-            return new HealthResponse.DatabaseStatus(false, "Database connection failed: " + e.getMessage());
-        }
+    private static String now() {
+        return LocalDateTime.now().format(TIMESTAMP_FORMATTER);
     }
 
     /**
@@ -108,7 +103,7 @@ public class HealthController {
      *
      * @return Active profile name or "unknown" if not set
      */
-    private String getActiveProfile() {
+    private static String getActiveProfile(Environment environment) {
         String[] activeProfiles = environment.getActiveProfiles();
         if (activeProfiles.length > 0) {
             return String.join(",", activeProfiles);
@@ -118,4 +113,3 @@ public class HealthController {
         return defaultProfile;
     }
 }
-
@@ -0,0 +1,72 @@
+package com.meli.meli_ecommerce_orders_api.controller;
+
+import com.meli.meli_ecommerce_orders_api.dto.ApiResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderAnalyticsGroupBy;
+import com.meli.meli_ecommerce_orders_api.dto.OrderAnalyticsResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderCountersResponse;
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+import com.meli.meli_ecommerce_orders_api.service.OrderAnalyticsService;
+import com.meli.meli_ecommerce_orders_api.service.OrderCounters;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Order counts and revenue for ops dashboards, aggregated by the database.
+ */
+@RestController
+@RequestMapping("/api/v1/orders/analytics")
+public class OrderAnalyticsController {
+    private final OrderAnalyticsService orderAnalyticsService;
+    private final OrderCounters orderCounters;
+
+    /**
+     * Instantiates a new Order analytics controller.
+     *
+     * @param orderAnalyticsService the order analytics service
+     * @param orderCounters         the live in-memory counters
+     */
+    @Autowired
+    public OrderAnalyticsController(OrderAnalyticsService orderAnalyticsService, OrderCounters orderCounters) {
+        this.orderAnalyticsService = orderAnalyticsService;
+        this.orderCounters = orderCounters;
+    }
+
+    /**
+     * Gets the number of orders and the revenue per group over an order date range.
+     *
+     * @param groupBy   STATUS, CUSTOMER, or a time bucket (HOUR, DAY, MONTH)
+     * @param from      start of the range (ISO-8601), inclusive
+     * @param to        end of the range (ISO-8601), exclusive
+     * @param status    optional status filter
+     * @param createdBy optional customer filter
+     * @param limit     maximum number of groups to return
+     * @return the aggregates
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<OrderAnalyticsResponse>> getAnalytics(
+            @RequestParam(defaultValue = "STATUS") OrderAnalyticsGroupBy groupBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) UUID createdBy,
+            @RequestParam(required = false) Integer limit) {
+        OrderAnalyticsResponse analytics = orderAnalyticsService.getAnalytics(groupBy, from, to, status, createdBy, limit);
+        return ResponseEntity.ok(ApiResponse.success("Order analytics fetched successfully", analytics));
+    }
+
+    /**
+     * Gets the live totals (active orders by status, revenue today, orders created in the
+     * last minute) from memory, without querying the database.
+     *
+     * @return the counters
+     */
+    @GetMapping("/live")
+    public ResponseEntity<ApiResponse<OrderCountersResponse>> getLiveCounters() {
+        return ResponseEntity.ok(ApiResponse.success("Live order counters fetched successfully", orderCounters.snapshot()));
+    }
+}
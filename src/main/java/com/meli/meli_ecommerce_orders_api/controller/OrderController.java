@@ -1,16 +1,41 @@
 package com.meli.meli_ecommerce_orders_api.controller;
 
 import com.meli.meli_ecommerce_orders_api.dto.ApiResponse;
+import com.meli.meli_ecommerce_orders_api.dto.BatchCreateOrderRequest;
+import com.meli.meli_ecommerce_orders_api.dto.BatchCreateOrderResponse;
+import com.meli.meli_ecommerce_orders_api.dto.BulkDeleteOrdersRequest;
+import com.meli.meli_ecommerce_orders_api.dto.BulkDeleteOrdersResponse;
 import com.meli.meli_ecommerce_orders_api.dto.CreateOrderRequest;
-import com.meli.meli_ecommerce_orders_api.model.Order;
+import com.meli.meli_ecommerce_orders_api.dto.CursorPage;
+import com.meli.meli_ecommerce_orders_api.dto.OrderField;
+import com.meli.meli_ecommerce_orders_api.dto.OrderResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderStatusResponse;
+import com.meli.meli_ecommerce_orders_api.dto.PartialOrder;
+import com.meli.meli_ecommerce_orders_api.dto.UpdateOrderStatusRequest;
+import com.meli.meli_ecommerce_orders_api.exceptions.InvalidRequestException;
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+import com.meli.meli_ecommerce_orders_api.service.OrderBulkDeleteService;
+import com.meli.meli_ecommerce_orders_api.service.OrderExportService;
 import com.meli.meli_ecommerce_orders_api.service.OrderService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -19,16 +44,27 @@ import java.util.UUID;
 @RestController
 @RequestMapping("/api/v1/orders")
 public class OrderController {
+    // Encodings of the order representation, in the order Spring MVC prefers them for a wildcard Accept.
+    private static final List<MediaType> ENCODINGS = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR,
+            new MediaType("application", "x-jackson-smile"));
+
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
+    private final OrderBulkDeleteService orderBulkDeleteService;
 
     /**
      * Instantiates a new Order controller.
      *
-     * @param orderService the order service
+     * @param orderService           the order service
+     * @param orderExportService     the order export service
+     * @param orderBulkDeleteService the bulk delete service
      */
     @Autowired
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, OrderExportService orderExportService,
+                           OrderBulkDeleteService orderBulkDeleteService) {
         this.orderService = orderService;
+        this.orderExportService = orderExportService;
+        this.orderBulkDeleteService = orderBulkDeleteService;
     }
 
     /**
@@ -38,34 +74,133 @@ public class OrderController {
      * @return the response entity
      */
     @PostMapping
-    public ResponseEntity<ApiResponse<Order>> createOrder(@Valid @RequestBody CreateOrderRequest request) {
-        Order createdOrder = orderService.createOrder(request);
+    public ResponseEntity<ApiResponse<OrderResponse>> createOrder(@Valid @RequestBody CreateOrderRequest request) {
+        OrderResponse createdOrder = orderService.createOrder(request);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Order created successfully", createdOrder));
     }
 
     /**
-     * Gets all orders.
+     * Creates several orders in one request and one transaction.
+     * Responds 201 when every order was created, 207 when only some were, and 400 when none were.
+     *
+     * @param request the batch of orders
+     * @return the per-order results
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<BatchCreateOrderResponse>> createOrders(@Valid @RequestBody BatchCreateOrderRequest request) {
+        BatchCreateOrderResponse response = orderService.createOrders(request.getOrders());
+        if (response.getCreated() == 0) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse<>(false, "No orders were created", response));
+        }
+        HttpStatus status = response.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity
+                .status(status)
+                .body(ApiResponse.success(response.getCreated() + " of " + response.getRequested() + " orders created", response));
+    }
+
+    /**
+     * Gets a page of active orders, newest first, as summaries without their line items.
+     * With {@code fields}, only the listed fields are selected and returned (see {@link OrderField}).
      *
-     * @return the all orders
+     * @param cursor    the cursor returned as {@code next} by the previous page
+     * @param limit     the maximum number of orders to return
+     * @param status    optional status filter
+     * @param createdBy optional customer filter
+     * @param fields    optional comma-separated fields to return, e.g. {@code id,status,totalPrice}
+     * @return the page of orders
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Order>>> getAllOrders() {
-        List<Order> orders = orderService.getAllActiveOrders();
+    public ResponseEntity<ApiResponse<CursorPage<?>>> getAllOrders(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) UUID createdBy,
+            @RequestParam(required = false) String fields) {
+        Set<OrderField> selected = OrderField.parse(fields);
+        CursorPage<?> orders = selected == null
+                ? orderService.getActiveOrders(cursor, limit, status, createdBy)
+                : orderService.getActiveOrders(cursor, limit, status, createdBy, selected);
         return ResponseEntity.ok(ApiResponse.success("Orders fetched successfully", orders));
     }
 
+    /**
+     * Exports every order, soft-deleted ones included, as newline-delimited JSON.
+     * The body is streamed while the database cursor is read, so the first orders
+     * reach the client before the export finishes.
+     *
+     * @return the streaming response entity
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportOrders() {
+        StreamingResponseBody body = orderExportService::exportOrders;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * Gets order by id.
+     * <p>
+     * Responses carry a strong ETag derived from the order version. When the client sends
+     * a matching {@code If-None-Match}, only the version is read (one primary key lookup)
+     * and 304 Not Modified is returned without loading or serializing the order.
+     * With {@code fields}, only the listed fields are selected and returned, bypassing the
+     * orders cache; the ETag then also identifies the field set.
+     * The JSON, CBOR and Smile encodings are distinct representations, so the encoding is
+     * negotiated here rather than by Spring MVC and the ETag identifies it as well.
+     * </p>
      *
-     * @param id the id
-     * @return the order by id
+     * @param id      the id
+     * @param fields  optional comma-separated fields to return, e.g. {@code id,status,totalPrice}
+     * @param request the request, checked for {@code Accept} and {@code If-None-Match}
+     * @return the order by id, or null when a 304 was already sent
+     * @throws HttpMediaTypeNotAcceptableException when the client accepts none of the encodings
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<Order>> getOrderById(@PathVariable UUID id) {
-        Order order = orderService.getOrderById(id);
-        return ResponseEntity.ok(ApiResponse.success("Order found", order));
+    public ResponseEntity<ApiResponse<?>> getOrderById(@PathVariable UUID id,
+                                                       @RequestParam(required = false) String fields,
+                                                       WebRequest request) throws HttpMediaTypeNotAcceptableException {
+        Set<OrderField> selected = OrderField.parse(fields);
+        MediaType encoding = negotiateEncoding(request);
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(eTag(orderService.getOrderVersion(id), selected, encoding))) {
+            return null;
+        }
+        // Tags are computed from the loaded order, not the version read above, so they always match the body.
+        if (selected != null) {
+            PartialOrder order = orderService.getOrderById(id, selected);
+            return ResponseEntity.ok()
+                    .contentType(encoding)
+                    .eTag(eTag(order.version(), selected, encoding))
+                    .cacheControl(CacheControl.noCache())
+                    .body(ApiResponse.success("Order found", order));
+        }
+        OrderResponse order = orderService.getOrderById(id);
+        return ResponseEntity.ok()
+                .contentType(encoding)
+                .eTag(eTag(order.version(), null, encoding))
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success("Order found", order));
+    }
+
+    /**
+     * Moves an order to a new status.
+     * Responds 404 when the order does not exist and 409 when the transition is not allowed
+     * from its current status (or the order is no longer in {@code expectedStatus}).
+     *
+     * @param id      the id
+     * @param request the requested status and, optionally, the status the order must be in
+     * @return the new status
+     */
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<ApiResponse<OrderStatusResponse>> updateOrderStatus(
+            @PathVariable UUID id, @Valid @RequestBody UpdateOrderStatusRequest request) {
+        OrderStatusResponse updated = orderService.updateOrderStatus(id, request.getStatus(), request.getExpectedStatus());
+        return ResponseEntity.ok(ApiResponse.success("Order status updated to " + updated.getStatus(), updated));
     }
 
     /**
@@ -79,4 +214,69 @@ public class OrderController {
         orderService.softDeleteOrder(id);
         return ResponseEntity.ok(ApiResponse.success("Order deleted successfully", null));
     }
+
+    /**
+     * Soft-deletes many orders, either by id or by customer and order date range.
+     * Orders are deleted in chunks, each committed on its own.
+     *
+     * @param request the ids, or the customer and {@code [from, to)} range
+     * @return how many orders were deleted
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<ApiResponse<BulkDeleteOrdersResponse>> bulkDeleteOrders(@RequestBody BulkDeleteOrdersRequest request) {
+        boolean byIds = request.getIds() != null;
+        if (byIds == (request.getCreatedBy() != null)) {
+            throw new InvalidRequestException("Send either ids or createdBy with from and to");
+        }
+        BulkDeleteOrdersResponse response = byIds
+                ? orderBulkDeleteService.deleteByIds(request.getIds())
+                : orderBulkDeleteService.deleteByCreatedBy(request.getCreatedBy(), request.getFrom(), request.getTo());
+        return ResponseEntity.ok(ApiResponse.success(response.getDeleted() + " orders deleted", response));
+    }
+
+    // The encoding Spring MVC would pick for the Accept header: the most preferred accepted
+    // type that one of the encodings matches, JSON for a wildcard or a missing header.
+    private static MediaType negotiateEncoding(WebRequest request) throws HttpMediaTypeNotAcceptableException {
+        String[] accept = request.getHeaderValues(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(Arrays.asList(accept));
+        } catch (InvalidMediaTypeException ex) {
+            throw new HttpMediaTypeNotAcceptableException("Could not parse 'Accept' header: " + ex.getMessage());
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType type : accepted) {
+            for (MediaType encoding : ENCODINGS) {
+                if (type.isCompatibleWith(encoding)) {
+                    return encoding;
+                }
+            }
+        }
+        throw new HttpMediaTypeNotAcceptableException(ENCODINGS);
+    }
+
+    // Strong entity tag: the version as microseconds since the epoch, in hex, followed for
+    // sparse representations by the field set as a bit mask of OrderField ordinals, and for
+    // binary encodings by the media subtype. JSON tags carry no suffix.
+    private static String eTag(LocalDateTime version, Set<OrderField> fields, MediaType encoding) {
+        if (version == null) {
+            return null;
+        }
+        long micros = version.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + version.getNano() / 1_000;
+        String tag = Long.toHexString(micros);
+        if (fields != null) {
+            int mask = 0;
+            for (OrderField field : fields) {
+                mask |= 1 << field.ordinal();
+            }
+            tag += "-" + Integer.toHexString(mask);
+        }
+        if (!MediaType.APPLICATION_JSON.equals(encoding)) {
+            tag += "-" + encoding.getSubtype();
+        }
+        return '"' + tag + '"';
+    }
 }
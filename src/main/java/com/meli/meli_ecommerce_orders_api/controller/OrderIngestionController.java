@@ -0,0 +1,75 @@
+package com.meli.meli_ecommerce_orders_api.controller;
+
+import com.meli.meli_ecommerce_orders_api.dto.ApiResponse;
+import com.meli.meli_ecommerce_orders_api.dto.CreateOrderRequest;
+import com.meli.meli_ecommerce_orders_api.dto.OrderAcceptedResponse;
+import com.meli.meli_ecommerce_orders_api.service.OrderIngestionQueue;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Order creation through the group-commit ingestion queue, for burst traffic.
+ * <p>
+ * Only registered when {@code orders.ingestion.enabled=true}. Orders are validated exactly
+ * like {@code POST /api/v1/orders} but committed together with other queued orders. The
+ * request thread is released while the order waits for its group.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/v1/orders/ingest")
+@ConditionalOnProperty(prefix = "orders.ingestion", name = "enabled", havingValue = "true")
+public class OrderIngestionController {
+
+    static final String PREFER = "Prefer";
+    static final String PREFERENCE_APPLIED = "Preference-Applied";
+    static final String RESPOND_ASYNC = "respond-async";
+
+    private final OrderIngestionQueue ingestionQueue;
+
+    /**
+     * Instantiates a new Order ingestion controller.
+     *
+     * @param ingestionQueue the ingestion queue
+     */
+    @Autowired
+    public OrderIngestionController(OrderIngestionQueue ingestionQueue) {
+        this.ingestionQueue = ingestionQueue;
+    }
+
+    /**
+     * Queues an order for the next group commit.
+     * <p>
+     * By default the response is sent once the order's group has committed: 201 with the
+     * created order. With {@code Prefer: respond-async} the response is sent as soon as the
+     * order is queued: 202 with the assigned id and a {@code Location} to read it from once it
+     * is written. A full queue answers 503 with {@code Retry-After}.
+     * </p>
+     *
+     * @param request the order
+     * @param prefer  optional {@code Prefer} header
+     * @return the created order, or the accepted order's id
+     */
+    @PostMapping
+    public CompletableFuture<ResponseEntity<ApiResponse<?>>> ingestOrder(
+            @Valid @RequestBody CreateOrderRequest request,
+            @RequestHeader(value = PREFER, required = false) String prefer) {
+        OrderIngestionQueue.Submission submission = ingestionQueue.submit(request);
+        if (prefer != null && prefer.contains(RESPOND_ASYNC)) {
+            return CompletableFuture.completedFuture(ResponseEntity
+                    .status(HttpStatus.ACCEPTED)
+                    .location(URI.create("/api/v1/orders/" + submission.id()))
+                    .header(PREFERENCE_APPLIED, RESPOND_ASYNC)
+                    .body(ApiResponse.success("Order accepted", new OrderAcceptedResponse(submission.id()))));
+        }
+        return submission.committed().thenApply(order -> ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Order created successfully", order)));
+    }
+}
@@ -0,0 +1,29 @@
+package com.meli.meli_ecommerce_orders_api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * The type Batch create order request.
+ * Each order is validated individually so one bad entry does not reject the whole batch.
+ */
+public class BatchCreateOrderRequest {
+
+    @NotEmpty(message = "orders list cannot be empty")
+    private List<CreateOrderRequest> orders;
+
+    /**
+     * Gets orders.
+     *
+     * @return the orders
+     */
+    public List<CreateOrderRequest> getOrders() { return orders; }
+
+    /**
+     * Sets orders.
+     *
+     * @param orders the orders
+     */
+    public void setOrders(List<CreateOrderRequest> orders) { this.orders = orders; }
+}
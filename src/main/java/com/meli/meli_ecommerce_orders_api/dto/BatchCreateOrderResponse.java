@@ -0,0 +1,83 @@
+package com.meli.meli_ecommerce_orders_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a batch order creation, with one result per submitted order in request order.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchCreateOrderResponse {
+    private int requested;
+    private int created;
+    private int failed;
+    private List<Result> results;
+
+    public BatchCreateOrderResponse() {}
+
+    public BatchCreateOrderResponse(List<Result> results) {
+        this.results = results;
+        this.requested = results.size();
+        this.created = (int) results.stream().filter(Result::isSuccess).count();
+        this.failed = requested - created;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public List<Result> getResults() {
+        return results;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Result {
+        private int index;
+        private boolean success;
+        private UUID orderId;
+        private List<String> errors;
+
+        public Result() {}
+
+        public Result(int index, boolean success, UUID orderId, List<String> errors) {
+            this.index = index;
+            this.success = success;
+            this.orderId = orderId;
+            this.errors = errors;
+        }
+
+        public static Result created(int index, UUID orderId) {
+            return new Result(index, true, orderId, null);
+        }
+
+        public static Result rejected(int index, List<String> errors) {
+            return new Result(index, false, null, errors);
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public UUID getOrderId() {
+            return orderId;
+        }
+
+        public List<String> getErrors() {
+            return errors;
+        }
+    }
+}
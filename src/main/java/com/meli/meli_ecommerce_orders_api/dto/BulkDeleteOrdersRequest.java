@@ -0,0 +1,72 @@
+package com.meli.meli_ecommerce_orders_api.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The type Bulk delete orders request.
+ * Either {@code ids} is sent, or {@code createdBy} together with the {@code [from, to)} order date range.
+ */
+public class BulkDeleteOrdersRequest {
+    private List<UUID> ids;
+    private UUID createdBy;
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    /**
+     * Gets ids.
+     *
+     * @return the ids of the orders to delete
+     */
+    public List<UUID> getIds() { return ids; }
+
+    /**
+     * Sets ids.
+     *
+     * @param ids the ids of the orders to delete
+     */
+    public void setIds(List<UUID> ids) { this.ids = ids; }
+
+    /**
+     * Gets created by.
+     *
+     * @return the customer whose orders are deleted
+     */
+    public UUID getCreatedBy() { return createdBy; }
+
+    /**
+     * Sets created by.
+     *
+     * @param createdBy the customer whose orders are deleted
+     */
+    public void setCreatedBy(UUID createdBy) { this.createdBy = createdBy; }
+
+    /**
+     * Gets from.
+     *
+     * @return the start of the order date range, inclusive
+     */
+    public LocalDateTime getFrom() { return from; }
+
+    /**
+     * Sets from.
+     *
+     * @param from the start of the order date range, inclusive
+     */
+    public void setFrom(LocalDateTime from) { this.from = from; }
+
+    /**
+     * Gets to.
+     *
+     * @return the end of the order date range, exclusive
+     */
+    public LocalDateTime getTo() { return to; }
+
+    /**
+     * Sets to.
+     *
+     * @param to the end of the order date range, exclusive
+     */
+    public void setTo(LocalDateTime to) { this.to = to; }
+}
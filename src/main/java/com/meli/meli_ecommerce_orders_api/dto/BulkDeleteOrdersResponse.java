@@ -0,0 +1,24 @@
+package com.meli.meli_ecommerce_orders_api.dto;
+
+/**
+ * Outcome of a bulk soft delete.
+ * Chunks are committed one by one, so {@code deleted} is what was committed even if a
+ * later chunk failed.
+ */
+public class BulkDeleteOrdersResponse {
+    private final long deleted;
+    private final int chunks;
+
+    public BulkDeleteOrdersResponse(long deleted, int chunks) {
+        this.deleted = deleted;
+        this.chunks = chunks;
+    }
+
+    public long getDeleted() {
+        return deleted;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+}
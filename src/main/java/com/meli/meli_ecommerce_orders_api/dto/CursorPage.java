@@ -0,0 +1,39 @@
+package com.meli.meli_ecommerce_orders_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * A single page of a keyset-paginated listing.
+ * The {@code next} cursor is opaque to clients: pass it back unchanged to fetch
+ * the following page. It is omitted when there are no more results.
+ *
+ * @param <T> the type of the items in the page
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPage<T> {
+    private List<T> items;
+    private int size;
+    private String next;
+
+    public CursorPage() {}
+
+    public CursorPage(List<T> items, String next) {
+        this.items = items;
+        this.size = items.size();
+        this.next = next;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public String getNext() {
+        return next;
+    }
+}
@@ -63,6 +63,8 @@ public class HealthResponse {
     public static class DatabaseStatus {
         private boolean connected;
         private String message;
+        // When the background probe last checked the database.
+        private String checkedAt;
 
         public DatabaseStatus() {}
 
@@ -71,6 +73,12 @@ public class HealthResponse {
             this.message = message;
         }
 
+        public DatabaseStatus(boolean connected, String message, String checkedAt) {
+            this.connected = connected;
+            this.message = message;
+            this.checkedAt = checkedAt;
+        }
+
         public boolean isConnected() {
             return connected;
         }
@@ -86,6 +94,14 @@ public class HealthResponse {
         public void setMessage(String message) {
             this.message = message;
         }
+
+        public String getCheckedAt() {
+            return checkedAt;
+        }
+
+        public void setCheckedAt(String checkedAt) {
+            this.checkedAt = checkedAt;
+        }
     }
 }
 
@@ -0,0 +1,12 @@
+package com.meli.meli_ecommerce_orders_api.dto;
+
+import java.util.UUID;
+
+/**
+ * Answer to an order queued for ingestion without waiting for its commit: only the id
+ * assigned to it is known yet.
+ *
+ * @param id the id the order will be stored under
+ */
+public record OrderAcceptedResponse(UUID id) {
+}
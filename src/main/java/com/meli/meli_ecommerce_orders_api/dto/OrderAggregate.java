@@ -0,0 +1,32 @@
+package com.meli.meli_ecommerce_orders_api.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Order count and revenue of one analytics group, computed by a {@code GROUP BY} query.
+ * The key is the status name, the customer id, or the start of the time bucket (ISO-8601),
+ * depending on how the analytics were grouped.
+ */
+public class OrderAggregate {
+    private final String key;
+    private final long orderCount;
+    private final BigDecimal revenue;
+
+    public OrderAggregate(String key, long orderCount, BigDecimal revenue) {
+        this.key = key;
+        this.orderCount = orderCount;
+        this.revenue = revenue;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+}
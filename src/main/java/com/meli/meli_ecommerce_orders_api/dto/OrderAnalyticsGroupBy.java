@@ -0,0 +1,13 @@
+package com.meli.meli_ecommerce_orders_api.dto;
+
+/**
+ * Dimension the order analytics are grouped by.
+ * {@code HOUR}, {@code DAY} and {@code MONTH} bucket orders by their truncated order date.
+ */
+public enum OrderAnalyticsGroupBy {
+    STATUS,
+    CUSTOMER,
+    HOUR,
+    DAY,
+    MONTH
+}
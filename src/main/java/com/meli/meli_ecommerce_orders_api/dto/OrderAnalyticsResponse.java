@@ -0,0 +1,45 @@
+package com.meli.meli_ecommerce_orders_api.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Aggregated order counts and revenue over {@code [from, to)}.
+ * {@code truncated} is true when there were more groups than the requested limit.
+ */
+public class OrderAnalyticsResponse {
+    private final OrderAnalyticsGroupBy groupBy;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final List<OrderAggregate> groups;
+    private final boolean truncated;
+
+    public OrderAnalyticsResponse(OrderAnalyticsGroupBy groupBy, LocalDateTime from, LocalDateTime to,
+                                  List<OrderAggregate> groups, boolean truncated) {
+        this.groupBy = groupBy;
+        this.from = from;
+        this.to = to;
+        this.groups = groups;
+        this.truncated = truncated;
+    }
+
+    public OrderAnalyticsGroupBy getGroupBy() {
+        return groupBy;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public List<OrderAggregate> getGroups() {
+        return groups;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
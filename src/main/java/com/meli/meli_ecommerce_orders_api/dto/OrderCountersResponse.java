@@ -0,0 +1,55 @@
+package com.meli.meli_ecommerce_orders_api.dto;
+
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Snapshot of the live order counters, read from memory.
+ * {@code reconciledAt} is when the counters were last checked against the database.
+ */
+public class OrderCountersResponse {
+    private final Map<OrderStatus, Long> activeByStatus;
+    private final long activeOrders;
+    private final LocalDate revenueDate;
+    private final BigDecimal revenueToday;
+    private final long createdLastMinute;
+    private final LocalDateTime reconciledAt;
+
+    public OrderCountersResponse(Map<OrderStatus, Long> activeByStatus, long activeOrders, LocalDate revenueDate,
+                                 BigDecimal revenueToday, long createdLastMinute, LocalDateTime reconciledAt) {
+        this.activeByStatus = activeByStatus;
+        this.activeOrders = activeOrders;
+        this.revenueDate = revenueDate;
+        this.revenueToday = revenueToday;
+        this.createdLastMinute = createdLastMinute;
+        this.reconciledAt = reconciledAt;
+    }
+
+    public Map<OrderStatus, Long> getActiveByStatus() {
+        return activeByStatus;
+    }
+
+    public long getActiveOrders() {
+        return activeOrders;
+    }
+
+    public LocalDate getRevenueDate() {
+        return revenueDate;
+    }
+
+    public BigDecimal getRevenueToday() {
+        return revenueToday;
+    }
+
+    public long getCreatedLastMinute() {
+        return createdLastMinute;
+    }
+
+    public LocalDateTime getReconciledAt() {
+        return reconciledAt;
+    }
+}
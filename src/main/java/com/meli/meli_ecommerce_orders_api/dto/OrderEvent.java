@@ -0,0 +1,40 @@
+package com.meli.meli_ecommerce_orders_api.dto;
+
+import com.meli.meli_ecommerce_orders_api.model.OrderEventType;
+import com.meli.meli_ecommerce_orders_api.model.OrderOutboxEvent;
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An order lifecycle event as handed to downstream consumers.
+ * <p>
+ * Delivery is at least once: consumers deduplicate on {@code eventId}, which increases in
+ * the order events were written.
+ * </p>
+ *
+ * @param eventId        the outbox id of the event
+ * @param type           what happened
+ * @param orderId        the order id
+ * @param createdBy      the customer id
+ * @param status         the order status after the event
+ * @param previousStatus the status before the event, only for {@link OrderEventType#STATUS_CHANGED}
+ * @param totalPrice     the order total
+ * @param occurredAt     when the change was made
+ */
+public record OrderEvent(long eventId, OrderEventType type, UUID orderId, UUID createdBy, OrderStatus status,
+                         OrderStatus previousStatus, BigDecimal totalPrice, LocalDateTime occurredAt) {
+
+    /**
+     * Copies an outbox row.
+     *
+     * @param event the outbox row
+     * @return the event
+     */
+    public static OrderEvent from(OrderOutboxEvent event) {
+        return new OrderEvent(event.getId(), event.getType(), event.getOrderId(), event.getCreatedBy(),
+                event.getStatus(), event.getPreviousStatus(), event.getTotalPrice(), event.getOccurredAt());
+    }
+}
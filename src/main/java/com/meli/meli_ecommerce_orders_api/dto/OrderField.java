@@ -0,0 +1,71 @@
+package com.meli.meli_ecommerce_orders_api.dto;
+
+import com.meli.meli_ecommerce_orders_api.exceptions.InvalidRequestException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Order fields a client can ask for with the {@code fields} query parameter.
+ * Each field is named as in the full JSON representation of an order.
+ */
+public enum OrderField {
+    ID("id"),
+    CREATED_BY("createdBy"),
+    STATUS("status"),
+    TOTAL_PRICE("totalPrice"),
+    ORDER_DATE("orderDate"),
+    LAST_UPDATED_DATE("lastUpdatedDate"),
+    /** Number of line items, counted by the database. */
+    ITEM_COUNT("itemCount"),
+    /** The line items themselves, read with a second query only when requested. */
+    ORDER_ITEMS("orderItems");
+
+    private final String jsonName;
+
+    OrderField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    /**
+     * Gets the JSON property name of the field.
+     *
+     * @return the JSON name
+     */
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Parses a comma-separated list of JSON field names, e.g. {@code id,status,totalPrice}.
+     *
+     * @param fields the value of the {@code fields} parameter, possibly null
+     * @return the requested fields, or null when the parameter is absent or blank (all fields)
+     * @throws InvalidRequestException if a name is not a known field
+     */
+    public static Set<OrderField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<OrderField> parsed = EnumSet.noneOf(OrderField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                parsed.add(fromJsonName(trimmed));
+            }
+        }
+        return parsed.isEmpty() ? null : parsed;
+    }
+
+    private static OrderField fromJsonName(String name) {
+        for (OrderField field : values()) {
+            if (field.jsonName.equals(name)) {
+                return field;
+            }
+        }
+        throw new InvalidRequestException("Unknown field '" + name + "', expected one of: "
+                + Arrays.stream(values()).map(OrderField::getJsonName).collect(Collectors.joining(", ")));
+    }
+}
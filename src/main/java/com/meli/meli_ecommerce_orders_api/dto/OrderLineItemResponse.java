@@ -0,0 +1,31 @@
+package com.meli.meli_ecommerce_orders_api.dto;
+
+import com.meli.meli_ecommerce_orders_api.model.OrderLineItem;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Wire representation of an order line item.
+ *
+ * @param id           the line item id
+ * @param productId    the product id
+ * @param productName  the product name at the time of purchase
+ * @param quantity     the quantity bought
+ * @param pricePerUnit the unit price at the time of purchase
+ * @param totalPrice   {@code pricePerUnit * quantity}
+ */
+public record OrderLineItemResponse(UUID id, UUID productId, String productName, int quantity,
+                                    BigDecimal pricePerUnit, BigDecimal totalPrice) {
+
+    /**
+     * Copies a line item entity.
+     *
+     * @param item the entity
+     * @return the response
+     */
+    public static OrderLineItemResponse from(OrderLineItem item) {
+        return new OrderLineItemResponse(item.getId(), item.getProductId(), item.getProductName(),
+                item.getQuantity(), item.getPricePerUnit(), item.getTotalPrice());
+    }
+}
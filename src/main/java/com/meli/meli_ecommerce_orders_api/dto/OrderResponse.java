@@ -0,0 +1,55 @@
+package com.meli.meli_ecommerce_orders_api.dto;
+
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Wire representation of an order with its line items.
+ * <p>
+ * Immutable and detached from the persistence model: it is built from a query projection
+ * (or copied from a just-saved entity), so serializing it never triggers lazy loading and
+ * the same instance can be cached and shared between requests.
+ * </p>
+ *
+ * @param id              the order id
+ * @param createdBy       the customer id
+ * @param orderItems      the line items
+ * @param totalPrice      the order total
+ * @param status          the current status
+ * @param deletedAt       when the order was soft-deleted, null if it is active
+ * @param orderDate       when the order was placed
+ * @param lastUpdatedDate when the order last changed
+ */
+public record OrderResponse(UUID id, UUID createdBy, List<OrderLineItemResponse> orderItems,
+                            BigDecimal totalPrice, OrderStatus status, LocalDateTime deletedAt,
+                            LocalDateTime orderDate, LocalDateTime lastUpdatedDate) {
+
+    /**
+     * Copies an order entity and its (already loaded) line items.
+     *
+     * @param order the entity
+     * @return the response
+     */
+    public static OrderResponse from(Order order) {
+        return new OrderResponse(order.getId(), order.getCreatedBy(),
+                order.getOrderItems().stream().map(OrderLineItemResponse::from).toList(),
+                order.getTotalPrice(), order.getStatus(), order.getDeletedAt(),
+                order.getOrderDate(), order.getLastUpdatedDate());
+    }
+
+    /**
+     * Identifies the current state of the order: the last update time, or the order date if
+     * it was never updated. Every write to an order (including bulk status updates) sets
+     * {@code lastUpdatedDate}, so the version changes whenever the order does.
+     *
+     * @return the version, used as the HTTP entity tag
+     */
+    public LocalDateTime version() {
+        return lastUpdatedDate != null ? lastUpdatedDate : orderDate;
+    }
+}
@@ -0,0 +1,34 @@
+package com.meli.meli_ecommerce_orders_api.dto;
+
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Result of a status transition. The order itself is never loaded to change its status,
+ * so only the fields written by the update are returned.
+ */
+public class OrderStatusResponse {
+    private final UUID id;
+    private final OrderStatus status;
+    private final LocalDateTime lastUpdatedDate;
+
+    public OrderStatusResponse(UUID id, OrderStatus status, LocalDateTime lastUpdatedDate) {
+        this.id = id;
+        this.status = status;
+        this.lastUpdatedDate = lastUpdatedDate;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getLastUpdatedDate() {
+        return lastUpdatedDate;
+    }
+}
@@ -0,0 +1,55 @@
+package com.meli.meli_ecommerce_orders_api.dto;
+
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lightweight, read-only view of an order for list screens.
+ * It is built directly by the query (no entity is loaded) and carries the number of
+ * line items instead of the items themselves.
+ */
+public class OrderSummary {
+    private final UUID id;
+    private final UUID createdBy;
+    private final OrderStatus status;
+    private final BigDecimal totalPrice;
+    private final LocalDateTime orderDate;
+    private final long itemCount;
+
+    public OrderSummary(UUID id, UUID createdBy, OrderStatus status, BigDecimal totalPrice,
+                        LocalDateTime orderDate, long itemCount) {
+        this.id = id;
+        this.createdBy = createdBy;
+        this.status = status;
+        this.totalPrice = totalPrice;
+        this.orderDate = orderDate;
+        this.itemCount = itemCount;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getCreatedBy() {
+        return createdBy;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public BigDecimal getTotalPrice() {
+        return totalPrice;
+    }
+
+    public LocalDateTime getOrderDate() {
+        return orderDate;
+    }
+
+    public long getItemCount() {
+        return itemCount;
+    }
+}
@@ -0,0 +1,33 @@
+package com.meli.meli_ecommerce_orders_api.dto;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * An order reduced to the fields a client asked for (see {@link OrderField}).
+ * <p>
+ * Only {@code fields} is serialized, as a plain JSON object. The id, order date and last
+ * update time are always read alongside it, because the next-page cursor and the ETag are
+ * computed from them, but they only appear in the JSON when requested.
+ * </p>
+ *
+ * @param id              the order id
+ * @param orderDate       when the order was placed
+ * @param lastUpdatedDate when the order last changed, null if never
+ * @param fields          the requested fields by JSON name, in {@link OrderField} order
+ */
+public record PartialOrder(UUID id, LocalDateTime orderDate, LocalDateTime lastUpdatedDate,
+                           @JsonValue Map<String, Object> fields) {
+
+    /**
+     * Same as {@link OrderResponse#version()}.
+     *
+     * @return the version, used as the HTTP entity tag
+     */
+    public LocalDateTime version() {
+        return lastUpdatedDate != null ? lastUpdatedDate : orderDate;
+    }
+}
@@ -0,0 +1,45 @@
+package com.meli.meli_ecommerce_orders_api.dto;
+
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * The type Update order status request.
+ * When {@code expectedStatus} is sent, the change only applies if the order is still in that
+ * status, so concurrent workers cannot overwrite each other's transitions.
+ */
+public class UpdateOrderStatusRequest {
+
+    @NotNull(message = "status cannot be null")
+    private OrderStatus status;
+
+    private OrderStatus expectedStatus;
+
+    /**
+     * Gets status.
+     *
+     * @return the requested status
+     */
+    public OrderStatus getStatus() { return status; }
+
+    /**
+     * Sets status.
+     *
+     * @param status the requested status
+     */
+    public void setStatus(OrderStatus status) { this.status = status; }
+
+    /**
+     * Gets expected status.
+     *
+     * @return the status the order must currently be in, or null for any allowed source
+     */
+    public OrderStatus getExpectedStatus() { return expectedStatus; }
+
+    /**
+     * Sets expected status.
+     *
+     * @param expectedStatus the status the order must currently be in
+     */
+    public void setExpectedStatus(OrderStatus expectedStatus) { this.expectedStatus = expectedStatus; }
+}
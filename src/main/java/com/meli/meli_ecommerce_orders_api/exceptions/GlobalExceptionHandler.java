@@ -2,12 +2,15 @@ package com.meli.meli_ecommerce_orders_api.exceptions;
 
 import com.meli.meli_ecommerce_orders_api.dto.ApiResponse;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -31,6 +34,34 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.failure(ex.getMessage()));
     }
 
+    /**
+     * Handles status transitions that are not allowed from the order's current status.
+     *
+     * @param ex the exception
+     * @return standardized API response with CONFLICT status
+     */
+    @ExceptionHandler(InvalidStatusTransitionException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidStatusTransition(InvalidStatusTransitionException ex) {
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.failure(ex.getMessage()));
+    }
+
+    /**
+     * Handles orders refused by a full ingestion queue. {@code Retry-After} tells the client
+     * to back off briefly instead of retrying immediately.
+     *
+     * @param ex the exception
+     * @return standardized API response with SERVICE_UNAVAILABLE status
+     */
+    @ExceptionHandler(IngestionUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIngestionUnavailable(IngestionUnavailableException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.failure(ex.getMessage()));
+    }
+
     /**
      * Handles validation errors (from @Valid annotated requests).
      *
@@ -51,6 +82,48 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.failure("Validation failed: " + errors.toString()));
     }
 
+    /**
+     * Handles invalid request parameters rejected by the service layer (e.g. a malformed cursor).
+     * Other {@link IllegalArgumentException}s come from bugs and are left to the generic handler.
+     *
+     * @param ex the exception
+     * @return standardized API response with BAD_REQUEST status
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidRequest(InvalidRequestException ex) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.failure(ex.getMessage()));
+    }
+
+    /**
+     * Handles query or path parameters that cannot be converted to the expected type
+     * (e.g. an unknown order status).
+     *
+     * @param ex the exception
+     * @return standardized API response with BAD_REQUEST status
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.failure("Invalid value for parameter '" + ex.getName() + "': " + ex.getValue()));
+    }
+
+    /**
+     * Handles request bodies that are not valid JSON or do not match the expected types
+     * (e.g. an unknown order status).
+     *
+     * @param ex the exception
+     * @return standardized API response with BAD_REQUEST status
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleUnreadableBody(HttpMessageNotReadableException ex) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.failure("Malformed request body"));
+    }
+
     /**
      * Handles all other unhandled exceptions.
      *
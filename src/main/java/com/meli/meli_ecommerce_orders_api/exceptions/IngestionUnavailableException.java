@@ -0,0 +1,11 @@
+package com.meli.meli_ecommerce_orders_api.exceptions;
+
+/**
+ * Thrown when the ingestion queue cannot take another order, because it is full or
+ * shutting down. The client should retry later.
+ */
+public class IngestionUnavailableException extends RuntimeException {
+    public IngestionUnavailableException(String message) {
+        super(message);
+    }
+}
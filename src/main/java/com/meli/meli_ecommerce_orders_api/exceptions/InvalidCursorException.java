@@ -0,0 +1,10 @@
+package com.meli.meli_ecommerce_orders_api.exceptions;
+
+/**
+ * Thrown when a pagination cursor sent by the client cannot be decoded.
+ */
+public class InvalidCursorException extends InvalidRequestException {
+    public InvalidCursorException(String token, Throwable cause) {
+        super("Invalid cursor: " + token, cause);
+    }
+}
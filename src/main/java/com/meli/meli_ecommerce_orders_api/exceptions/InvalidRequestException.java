@@ -0,0 +1,16 @@
+package com.meli.meli_ecommerce_orders_api.exceptions;
+
+/**
+ * Thrown when a request parameter or body value is rejected by the service layer (a page
+ * size out of range, an unknown field, an empty date range...). Answered with 400; any other
+ * {@link IllegalArgumentException} is a bug and stays a 500.
+ */
+public class InvalidRequestException extends IllegalArgumentException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package com.meli.meli_ecommerce_orders_api.exceptions;
+
+/**
+ * Thrown when an order cannot move to the requested status, either because the transition
+ * is not allowed or because another request changed the status first.
+ */
+public class InvalidStatusTransitionException extends RuntimeException {
+    public InvalidStatusTransitionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.meli.meli_ecommerce_orders_api.model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a random UUID identifier on insert, unless the entity already carries one.
+ * Lets the ingestion queue hand out an order's id before the order is written, and write
+ * an order again after a failed transaction, whose rollback leaves the generated ids set.
+ */
+@IdGeneratorType(AssignableUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface AssignableUuid {
+}
@@ -1,6 +1,5 @@
 package com.meli.meli_ecommerce_orders_api.model;
 
-import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -14,13 +13,15 @@ import java.util.UUID;
 /**
  * Represents a customer's order, which acts as a container for multiple line items.
  * This is the root entity for the order aggregate.
+ * It is never serialized directly; the API exposes {@code OrderResponse} instead.
  */
 @Entity
 @Table(name = "orders")
 public class Order {
 
+    // Generated on insert, unless assigned beforehand (see AssignableUuid).
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @AssignableUuid
     @Column(updatable = false, nullable = false)
     private UUID id;
 
@@ -32,8 +33,9 @@ public class Order {
     // apply to its associated line items.
     // orphanRemoval = true: If a line item is removed from this list, it will be
     // deleted from the database upon saving.
-    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
-    @JsonManagedReference // Annotation to prevent infinite loop of reference
+    // fetch = FetchType.LAZY: Items are only read when asked for (see OrderResponseRepository),
+    // so list and delete queries never touch the order_line_items table.
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<OrderLineItem> orderItems = new ArrayList<>();
 
     // The total price of the entire order, calculated from its line items.
@@ -0,0 +1,10 @@
+package com.meli.meli_ecommerce_orders_api.model;
+
+/**
+ * Kinds of order lifecycle events written to the outbox.
+ */
+public enum OrderEventType {
+    CREATED,
+    STATUS_CHANGED,
+    DELETED
+}
@@ -1,6 +1,5 @@
 package com.meli.meli_ecommerce_orders_api.model;
 
-import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
 
 import java.math.BigDecimal;
@@ -16,15 +15,16 @@ import java.util.UUID;
 @Table(name = "order_line_items")
 public class OrderLineItem {
 
+    // Generated on insert, unless already set: an ingested order retried after its group
+    // failed keeps the ids its items were given in the rolled-back attempt (see AssignableUuid).
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @AssignableUuid
     private UUID id;
 
     // This is the "many" side of the relationship.
     // It links back to the Order it belongs to using a foreign key.
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id", nullable = false)
-    @JsonBackReference // Annotation to prevent infinite loop of reference
     private Order order;
 
     @Column(nullable = false)
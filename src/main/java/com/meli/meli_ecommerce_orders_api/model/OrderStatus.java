@@ -1,14 +1,52 @@
 package com.meli.meli_ecommerce_orders_api.model;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Represents the possible statuses of an Order.
  * Using an Enum ensures type safety and restricts the status to valid values.
+ * <p>
+ * Orders move forward through PENDING → PROCESSING → SHIPPED → DELIVERED and may be
+ * CANCELLED until they ship. DELIVERED and CANCELLED are final.
+ * </p>
  */
 public enum OrderStatus {
     PENDING,
     PROCESSING,
     SHIPPED,
     DELIVERED,
-    CANCELLED
-}
+    CANCELLED;
+
+    private static final Map<OrderStatus, Set<OrderStatus>> SOURCES = new EnumMap<>(OrderStatus.class);
 
+    static {
+        SOURCES.put(PENDING, Collections.unmodifiableSet(EnumSet.noneOf(OrderStatus.class)));
+        SOURCES.put(PROCESSING, Collections.unmodifiableSet(EnumSet.of(PENDING)));
+        SOURCES.put(SHIPPED, Collections.unmodifiableSet(EnumSet.of(PROCESSING)));
+        SOURCES.put(DELIVERED, Collections.unmodifiableSet(EnumSet.of(SHIPPED)));
+        SOURCES.put(CANCELLED, Collections.unmodifiableSet(EnumSet.of(PENDING, PROCESSING)));
+    }
+
+    /**
+     * Gets the statuses an order must be in to move to this one.
+     *
+     * @return the allowed source statuses, empty if no order can move to this status
+     */
+    public Set<OrderStatus> sources() {
+        return SOURCES.get(this);
+    }
+
+    /**
+     * Whether an order in this status may move to the given one.
+     *
+     * @param target the requested status
+     * @return true if the transition is allowed
+     */
+    public boolean canTransitionTo(OrderStatus target) {
+        return target.sources().contains(this);
+    }
+}
@@ -0,0 +1,18 @@
+package com.meli.meli_ecommerce_orders_api.repository;
+
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the order columns the live counters need, read without loading the entity.
+ */
+public interface OrderAmount {
+
+    OrderStatus getStatus();
+
+    BigDecimal getTotalPrice();
+
+    LocalDateTime getOrderDate();
+}
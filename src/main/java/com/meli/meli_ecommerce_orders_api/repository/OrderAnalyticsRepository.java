@@ -0,0 +1,29 @@
+package com.meli.meli_ecommerce_orders_api.repository;
+
+import com.meli.meli_ecommerce_orders_api.dto.OrderAggregate;
+import com.meli.meli_ecommerce_orders_api.dto.OrderAnalyticsGroupBy;
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment for aggregate queries over orders.
+ */
+public interface OrderAnalyticsRepository {
+
+    /**
+     * Counts the orders matching the given specification and sums their total price,
+     * grouped in the database so only one row per group is returned.
+     * <p>
+     * Time buckets and statuses are returned in ascending order; customers by revenue,
+     * highest first.
+     * </p>
+     *
+     * @param spec    the filters to apply
+     * @param groupBy the grouping dimension
+     * @param limit   the maximum number of groups to return
+     * @return one aggregate per group
+     */
+    List<OrderAggregate> aggregate(Specification<Order> spec, OrderAnalyticsGroupBy groupBy, int limit);
+}
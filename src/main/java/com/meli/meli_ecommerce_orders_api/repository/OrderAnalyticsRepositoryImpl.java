@@ -0,0 +1,67 @@
+package com.meli.meli_ecommerce_orders_api.repository;
+
+import com.meli.meli_ecommerce_orders_api.dto.OrderAggregate;
+import com.meli.meli_ecommerce_orders_api.dto.OrderAnalyticsGroupBy;
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.sqm.TemporalUnit;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Criteria-based implementation of {@link OrderAnalyticsRepository}.
+ * Spring Data picks it up by naming convention and mixes it into {@link OrderRepository}.
+ */
+class OrderAnalyticsRepositoryImpl implements OrderAnalyticsRepository {
+
+    private final EntityManager entityManager;
+
+    OrderAnalyticsRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<OrderAggregate> aggregate(Specification<Order> spec, OrderAnalyticsGroupBy groupBy, int limit) {
+        // The Hibernate builder renders truncate() as the dialect's date_trunc.
+        HibernateCriteriaBuilder cb = entityManager.unwrap(Session.class).getCriteriaBuilder();
+        JpaCriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Order> order = query.from(Order.class);
+
+        Expression<?> key = switch (groupBy) {
+            case STATUS -> order.get("status");
+            case CUSTOMER -> order.get("createdBy");
+            case HOUR -> cb.truncate(order.<LocalDateTime>get("orderDate"), TemporalUnit.HOUR);
+            case DAY -> cb.truncate(order.<LocalDateTime>get("orderDate"), TemporalUnit.DAY);
+            case MONTH -> cb.truncate(order.<LocalDateTime>get("orderDate"), TemporalUnit.MONTH);
+        };
+        Expression<Long> orderCount = cb.count(order);
+        Expression<BigDecimal> revenue = cb.sum(order.get("totalPrice"));
+
+        query.multiselect(key, orderCount, revenue);
+        Predicate predicate = spec.toPredicate(order, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.groupBy(key);
+        query.orderBy(groupBy == OrderAnalyticsGroupBy.CUSTOMER ? cb.desc(revenue) : cb.asc(key));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(row -> new OrderAggregate(
+                        String.valueOf(row.get(0)),
+                        row.get(1, Long.class),
+                        row.get(2, BigDecimal.class)))
+                .toList();
+    }
+}
@@ -0,0 +1,23 @@
+package com.meli.meli_ecommerce_orders_api.repository;
+
+import com.meli.meli_ecommerce_orders_api.model.Order;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment inserting new orders whose ids were assigned in advance.
+ */
+public interface OrderInsertRepository {
+
+    /**
+     * Persists new orders and their line items, then flushes them as JDBC batches.
+     * <p>
+     * Unlike {@code saveAll}, which merges (and first selects) any entity that already has
+     * an id, every order is treated as new, so no statement is issued per row before the
+     * INSERTs.
+     * </p>
+     *
+     * @param orders new orders, with or without a pre-assigned id
+     */
+    void insertAll(List<Order> orders);
+}
@@ -0,0 +1,27 @@
+package com.meli.meli_ecommerce_orders_api.repository;
+
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import jakarta.persistence.EntityManager;
+
+import java.util.List;
+
+/**
+ * {@link EntityManager}-based implementation of {@link OrderInsertRepository}.
+ * Spring Data picks it up by naming convention and mixes it into {@link OrderRepository}.
+ */
+class OrderInsertRepositoryImpl implements OrderInsertRepository {
+
+    private final EntityManager entityManager;
+
+    OrderInsertRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void insertAll(List<Order> orders) {
+        for (Order order : orders) {
+            entityManager.persist(order);
+        }
+        entityManager.flush();
+    }
+}
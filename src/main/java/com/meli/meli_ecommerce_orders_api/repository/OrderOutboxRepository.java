@@ -0,0 +1,80 @@
+package com.meli.meli_ecommerce_orders_api.repository;
+
+import com.meli.meli_ecommerce_orders_api.model.OrderOutboxEvent;
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for the order event outbox.
+ * <p>
+ * Events are written with {@code INSERT ... SELECT} from the orders table, in the caller's
+ * transaction: one statement records the events of a whole batch, and the event always
+ * carries the values the transaction actually wrote.
+ * </p>
+ */
+@Repository
+public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEvent, Long> {
+
+    /**
+     * Records a CREATED event for each of the given orders.
+     *
+     * @param ids the ids of orders saved (and flushed) in the current transaction
+     * @return the number of events written
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("insert into OrderOutboxEvent (type, orderId, createdBy, status, totalPrice, occurredAt) "
+            + "select com.meli.meli_ecommerce_orders_api.model.OrderEventType.CREATED, "
+            + "o.id, o.createdBy, o.status, o.totalPrice, o.orderDate from Order o where o.id in :ids")
+    int insertCreated(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Records a STATUS_CHANGED event for an order whose status was just updated.
+     *
+     * @param id   the order id
+     * @param from the status the order was in before the update
+     * @return the number of events written
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("insert into OrderOutboxEvent (type, orderId, createdBy, status, previousStatus, totalPrice, occurredAt) "
+            + "select com.meli.meli_ecommerce_orders_api.model.OrderEventType.STATUS_CHANGED, "
+            + "o.id, o.createdBy, o.status, :from, o.totalPrice, o.lastUpdatedDate from Order o where o.id = :id")
+    int insertStatusChanged(@Param("id") UUID id, @Param("from") OrderStatus from);
+
+    /**
+     * Records a DELETED event for each of the given orders soft-deleted at exactly
+     * {@code deletedAt}, i.e. by the UPDATE of the current transaction.
+     *
+     * @param ids       the order ids passed to the delete
+     * @param deletedAt the deletion time passed to the delete
+     * @return the number of events written
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("insert into OrderOutboxEvent (type, orderId, createdBy, status, totalPrice, occurredAt) "
+            + "select com.meli.meli_ecommerce_orders_api.model.OrderEventType.DELETED, "
+            + "o.id, o.createdBy, o.status, o.totalPrice, o.deletedAt from Order o "
+            + "where o.id in :ids and o.deletedAt = :deletedAt")
+    int insertDeleted(@Param("ids") Collection<UUID> ids, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * Claims the oldest unpublished events, locking their rows until the transaction ends.
+     * <p>
+     * {@code SKIP LOCKED} makes concurrent relays (other replicas) skip the rows already
+     * claimed instead of waiting for them, so each takes a disjoint batch. PostgreSQL and
+     * H2 (2.2+) share the syntax, so the statement is native rather than dialect-rendered.
+     * </p>
+     *
+     * @param limit the maximum number of events to claim
+     * @return the claimed events, in id order
+     */
+    @Query(value = "select * from order_outbox order by id limit :limit for update skip locked", nativeQuery = true)
+    List<OrderOutboxEvent> claimBatch(@Param("limit") int limit);
+}
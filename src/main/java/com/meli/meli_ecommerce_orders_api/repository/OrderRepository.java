@@ -1,27 +1,181 @@
 package com.meli.meli_ecommerce_orders_api.repository;
 
 import com.meli.meli_ecommerce_orders_api.model.Order;
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for {@link Order} entities.
  * <p>
  * This interface extends {@link JpaRepository}, providing full CRUD functionality.
  * It is the data access layer for our Order aggregate root.
+ * Listings are built from {@link OrderSpecifications} and read as projections through
+ * {@link OrderSummaryRepository}, so optional filters only appear in the SQL when they
+ * are used and line items are never loaded for list views. Single orders are read for
+ * the API through {@link OrderResponseRepository}, without managed entities, and sparse
+ * fieldsets through {@link PartialOrderRepository}. Dashboards read aggregates
+ * computed by the database through {@link OrderAnalyticsRepository}. Orders with
+ * pre-assigned ids are written through {@link OrderInsertRepository}.
  * </p>
  */
 @Repository
-public interface OrderRepository extends JpaRepository<Order, UUID> {
+public interface OrderRepository extends JpaRepository<Order, UUID>, OrderSummaryRepository,
+        OrderResponseRepository, PartialOrderRepository, OrderAnalyticsRepository, OrderInsertRepository {
 
     /**
-     * Finds all orders that have not been soft-deleted.
-     * Spring Data JPA automatically implements this method based on its name.
+     * Reads only the status of an active order.
      *
-     * @return A list of all active (non-deleted) orders.
+     * @param id the order id
+     * @return the current status, or empty if the order does not exist or was deleted
      */
-    List<Order> findByDeletedAtIsNull();
+    @Query("select o.status from Order o where o.id = :id and o.deletedAt is null")
+    Optional<OrderStatus> findStatusById(@Param("id") UUID id);
+
+    /**
+     * Reads only the version of an active order, by primary key: its last update time, or
+     * its order date if it was never updated. Used for conditional GETs.
+     *
+     * @param id the order id
+     * @return the version, or empty if the order does not exist or was deleted
+     */
+    @Query("select coalesce(o.lastUpdatedDate, o.orderDate) from Order o where o.id = :id and o.deletedAt is null")
+    Optional<LocalDateTime> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Moves an active order to a new status in a single conditional UPDATE.
+     * <p>
+     * The current status is checked in the WHERE clause, so the check and the write are one
+     * atomic statement: no entity is loaded, no lock is held beyond the row update, and of two
+     * concurrent transitions from the same status only one can match. {@code @UpdateTimestamp}
+     * does not apply to bulk updates, so the update time is passed in.
+     * </p>
+     *
+     * @param id   the order id
+     * @param from the statuses the order may currently be in
+     * @param to   the new status
+     * @param now  the update time
+     * @return 1 if the order was updated, 0 if it does not exist, was deleted or is in another status
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.status = :to, o.lastUpdatedDate = :now "
+            + "where o.id = :id and o.deletedAt is null and o.status in :from")
+    int updateStatus(@Param("id") UUID id, @Param("from") Collection<OrderStatus> from,
+                     @Param("to") OrderStatus to, @Param("now") LocalDateTime now);
+
+    /**
+     * Soft-deletes an active order in a single UPDATE, without loading it.
+     *
+     * @param id  the order id
+     * @param now the deletion time
+     * @return 1 if the order was deleted, 0 if it does not exist or was already deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.deletedAt = :now, o.lastUpdatedDate = :now where o.id = :id and o.deletedAt is null")
+    int softDeleteById(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    /**
+     * Soft-deletes the active orders among the given ids in a single UPDATE.
+     * Callers keep {@code ids} bounded so the statement locks a bounded number of rows.
+     *
+     * @param ids the order ids
+     * @param now the deletion time
+     * @return the number of orders deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.deletedAt = :now, o.lastUpdatedDate = :now where o.id in :ids and o.deletedAt is null")
+    int softDeleteByIdIn(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Reads the status, total and order date of an order, deleted or not.
+     * Called right after a soft delete, while the UPDATE still holds the row lock, so the
+     * values are exactly those of the deleted order.
+     *
+     * @param id the order id
+     * @return the amounts, or empty if the order does not exist
+     */
+    @Query("select o.status as status, o.totalPrice as totalPrice, o.orderDate as orderDate "
+            + "from Order o where o.id = :id")
+    Optional<OrderAmount> findAmountById(@Param("id") UUID id);
+
+    /**
+     * Counts the active orders per status, with the revenue of those placed since {@code since}.
+     * Seeds and reconciles the live counters in a single aggregate query.
+     *
+     * @param since the start of the revenue window
+     * @return one row per status that has active orders
+     */
+    @Query("select o.status as status, count(o) as orderCount, "
+            + "coalesce(sum(case when o.orderDate >= :since then o.totalPrice end), 0) as revenueSince "
+            + "from Order o where o.deletedAt is null group by o.status")
+    List<OrderStatusTotals> findActiveTotals(@Param("since") LocalDateTime since);
+
+    /**
+     * Counts, per status, the orders among {@code ids} soft-deleted at exactly {@code deletedAt},
+     * i.e. by the bulk UPDATE of the current transaction, with the revenue of those placed since
+     * {@code since}.
+     *
+     * @param ids       the order ids passed to the bulk delete
+     * @param deletedAt the deletion time passed to the bulk delete
+     * @param since     the start of the revenue window
+     * @return one row per status among the deleted orders
+     */
+    @Query("select o.status as status, count(o) as orderCount, "
+            + "coalesce(sum(case when o.orderDate >= :since then o.totalPrice end), 0) as revenueSince "
+            + "from Order o where o.id in :ids and o.deletedAt = :deletedAt group by o.status")
+    List<OrderStatusTotals> findDeletedTotals(@Param("ids") Collection<UUID> ids,
+                                              @Param("deletedAt") LocalDateTime deletedAt,
+                                              @Param("since") LocalDateTime since);
+
+    /**
+     * Finds the ids of a customer's active orders placed in {@code [from, to)}.
+     * Deleted orders drop out of the result, so repeatedly taking the first chunk walks the
+     * whole range without an offset.
+     *
+     * @param createdBy the customer id
+     * @param from      the start of the range, inclusive
+     * @param to        the end of the range, exclusive
+     * @param limit     the maximum number of ids to return
+     * @return the matching ids, in id order
+     */
+    @Query("select o.id from Order o where o.createdBy = :createdBy and o.deletedAt is null "
+            + "and o.orderDate >= :from and o.orderDate < :to order by o.id")
+    List<UUID> findActiveIdsByCreatedBy(@Param("createdBy") UUID createdBy, @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to, Limit limit);
+
+    /**
+     * Number of rows the JDBC driver pulls per round trip while streaming an export.
+     */
+    String EXPORT_FETCH_SIZE = "500";
+
+    /**
+     * Streams every order, including soft-deleted ones, together with its line items.
+     * <p>
+     * The line items are fetch-joined and the rows are ordered by order id, so the rows of
+     * one order are contiguous and Hibernate can assemble each aggregate as the cursor moves.
+     * The stream must be consumed inside a transaction and closed by the caller.
+     * </p>
+     *
+     * @return a lazily populated stream backed by a database cursor
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select o from Order o left join fetch o.orderItems order by o.id")
+    Stream<Order> streamAllWithItems();
 }
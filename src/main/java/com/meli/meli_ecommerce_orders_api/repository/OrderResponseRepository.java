@@ -0,0 +1,21 @@
+package com.meli.meli_ecommerce_orders_api.repository;
+
+import com.meli.meli_ecommerce_orders_api.dto.OrderResponse;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Custom repository fragment reading orders straight into {@link OrderResponse} records.
+ */
+public interface OrderResponseRepository {
+
+    /**
+     * Reads an active order and its line items with one joined projection query.
+     * No entity is instantiated or tracked by the persistence context.
+     *
+     * @param id the order id
+     * @return the order, or empty if it does not exist or was deleted
+     */
+    Optional<OrderResponse> findResponseById(UUID id);
+}
@@ -0,0 +1,55 @@
+package com.meli.meli_ecommerce_orders_api.repository;
+
+import com.meli.meli_ecommerce_orders_api.dto.OrderLineItemResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderResponse;
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JPQL-based implementation of {@link OrderResponseRepository}.
+ * Spring Data picks it up by naming convention and mixes it into {@link OrderRepository}.
+ */
+class OrderResponseRepositoryImpl implements OrderResponseRepository {
+
+    // One row per line item (or a single row with null item columns for an order without items).
+    private static final String FIND_BY_ID = "select o.id, o.createdBy, o.totalPrice, o.status, o.orderDate, "
+            + "o.lastUpdatedDate, i.id, i.productId, i.productName, i.quantity, i.pricePerUnit, i.totalPrice "
+            + "from Order o left join o.orderItems i where o.id = :id and o.deletedAt is null";
+
+    private final EntityManager entityManager;
+
+    OrderResponseRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<OrderResponse> findResponseById(UUID id) {
+        List<Tuple> rows = entityManager.createQuery(FIND_BY_ID, Tuple.class)
+                .setParameter("id", id)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<OrderLineItemResponse> items = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            UUID itemId = row.get(6, UUID.class);
+            if (itemId != null) {
+                items.add(new OrderLineItemResponse(itemId, row.get(7, UUID.class), row.get(8, String.class),
+                        row.get(9, Integer.class), row.get(10, BigDecimal.class), row.get(11, BigDecimal.class)));
+            }
+        }
+        Tuple order = rows.get(0);
+        return Optional.of(new OrderResponse(order.get(0, UUID.class), order.get(1, UUID.class), List.copyOf(items),
+                order.get(2, BigDecimal.class), order.get(3, OrderStatus.class), null,
+                order.get(4, LocalDateTime.class), order.get(5, LocalDateTime.class)));
+    }
+}
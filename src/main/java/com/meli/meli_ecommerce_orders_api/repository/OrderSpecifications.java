@@ -0,0 +1,103 @@
+package com.meli.meli_ecommerce_orders_api.repository;
+
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Reusable query predicates for {@link Order} listings.
+ * <p>
+ * Each filter is a separate {@link Specification} so callers only add the predicates
+ * they actually need; the generated SQL then stays simple enough for the database
+ * to pick an index.
+ * </p>
+ */
+public final class OrderSpecifications {
+
+    /**
+     * Sort used by keyset pagination: newest orders first, id as a tie-breaker so the
+     * ordering is total and stable between pages.
+     */
+    public static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "orderDate", "id");
+
+    private OrderSpecifications() {}
+
+    /**
+     * Matches orders that have not been soft-deleted.
+     *
+     * @return the specification
+     */
+    public static Specification<Order> isActive() {
+        return (root, query, cb) -> cb.isNull(root.get("deletedAt"));
+    }
+
+    /**
+     * Matches the order with the given id.
+     *
+     * @param id the order id
+     * @return the specification
+     */
+    public static Specification<Order> hasId(UUID id) {
+        return (root, query, cb) -> cb.equal(root.get("id"), id);
+    }
+
+    /**
+     * Matches orders in the given status.
+     *
+     * @param status the status to match
+     * @return the specification
+     */
+    public static Specification<Order> hasStatus(OrderStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    /**
+     * Matches orders placed by the given customer.
+     *
+     * @param createdBy the customer id
+     * @return the specification
+     */
+    public static Specification<Order> isCreatedBy(UUID createdBy) {
+        return (root, query, cb) -> cb.equal(root.get("createdBy"), createdBy);
+    }
+
+    /**
+     * Matches orders placed in {@code [from, to)}.
+     *
+     * @param from the start of the range, inclusive
+     * @param to   the end of the range, exclusive
+     * @return the specification
+     */
+    public static Specification<Order> isPlacedBetween(LocalDateTime from, LocalDateTime to) {
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("orderDate"), from),
+                cb.lessThan(root.get("orderDate"), to));
+    }
+
+    /**
+     * Matches orders that come after the given position in {@link #KEYSET_SORT} order,
+     * i.e. {@code (orderDate, id) < (:orderDate, :id)}.
+     * <p>
+     * The redundant {@code orderDate <= :orderDate} bound lets the database start the index
+     * scan at the cursor instead of filtering every newer row, so deep pages cost the same
+     * as the first one.
+     * </p>
+     *
+     * @param orderDate the order date of the last order already returned
+     * @param id        the id of the last order already returned
+     * @return the specification
+     */
+    public static Specification<Order> isBefore(LocalDateTime orderDate, UUID id) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get("orderDate"), orderDate),
+                cb.or(
+                        cb.lessThan(root.get("orderDate"), orderDate),
+                        cb.and(
+                                cb.equal(root.get("orderDate"), orderDate),
+                                cb.lessThan(root.get("id"), id))));
+    }
+}
@@ -0,0 +1,18 @@
+package com.meli.meli_ecommerce_orders_api.repository;
+
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * One row per status of an aggregate query: how many orders matched and the revenue of
+ * those placed since a given time.
+ */
+public interface OrderStatusTotals {
+
+    OrderStatus getStatus();
+
+    long getOrderCount();
+
+    BigDecimal getRevenueSince();
+}
@@ -0,0 +1,25 @@
+package com.meli.meli_ecommerce_orders_api.repository;
+
+import com.meli.meli_ecommerce_orders_api.dto.OrderSummary;
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment for list views that only need {@link OrderSummary} projections.
+ */
+public interface OrderSummaryRepository {
+
+    /**
+     * Selects order summaries matching the given specification in a single query.
+     * Line items are never loaded; their count is computed by a correlated sub-select.
+     *
+     * @param spec  the filters to apply
+     * @param sort  the ordering of the results
+     * @param limit the maximum number of rows to return
+     * @return the matching summaries
+     */
+    List<OrderSummary> findSummaries(Specification<Order> spec, Sort sort, int limit);
+}
@@ -0,0 +1,58 @@
+package com.meli.meli_ecommerce_orders_api.repository;
+
+import com.meli.meli_ecommerce_orders_api.dto.OrderSummary;
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import com.meli.meli_ecommerce_orders_api.model.OrderLineItem;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+/**
+ * Criteria-based implementation of {@link OrderSummaryRepository}.
+ * Spring Data picks it up by naming convention and mixes it into {@link OrderRepository}.
+ */
+class OrderSummaryRepositoryImpl implements OrderSummaryRepository {
+
+    private final EntityManager entityManager;
+
+    OrderSummaryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<OrderSummary> findSummaries(Specification<Order> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<OrderSummary> query = cb.createQuery(OrderSummary.class);
+        Root<Order> order = query.from(Order.class);
+
+        Subquery<Long> itemCount = query.subquery(Long.class);
+        Root<OrderLineItem> item = itemCount.from(OrderLineItem.class);
+        itemCount.select(cb.count(item)).where(cb.equal(item.get("order"), order));
+
+        query.select(cb.construct(OrderSummary.class,
+                order.get("id"),
+                order.get("createdBy"),
+                order.get("status"),
+                order.get("totalPrice"),
+                order.get("orderDate"),
+                itemCount));
+
+        Predicate predicate = spec.toPredicate(order, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, order, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
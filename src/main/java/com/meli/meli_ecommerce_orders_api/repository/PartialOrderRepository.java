@@ -0,0 +1,33 @@
+package com.meli.meli_ecommerce_orders_api.repository;
+
+import com.meli.meli_ecommerce_orders_api.dto.OrderField;
+import com.meli.meli_ecommerce_orders_api.dto.PartialOrder;
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Custom repository fragment for sparse fieldsets: only the requested columns are selected.
+ */
+public interface PartialOrderRepository {
+
+    /**
+     * Selects the requested fields of the orders matching the given specification.
+     * <p>
+     * The SELECT list holds the requested columns plus the id and dates needed for cursors
+     * and ETags. The item count sub-select is only added for {@link OrderField#ITEM_COUNT},
+     * and {@code order_line_items} is only read, with one extra {@code IN} query for the
+     * whole page, for {@link OrderField#ORDER_ITEMS}.
+     * </p>
+     *
+     * @param spec   the filters to apply
+     * @param sort   the ordering of the results
+     * @param limit  the maximum number of orders to return
+     * @param fields the fields to return, not empty
+     * @return the matching orders
+     */
+    List<PartialOrder> findPartial(Specification<Order> spec, Sort sort, int limit, Set<OrderField> fields);
+}
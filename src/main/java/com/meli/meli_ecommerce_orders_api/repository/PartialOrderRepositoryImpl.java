@@ -0,0 +1,129 @@
+package com.meli.meli_ecommerce_orders_api.repository;
+
+import com.meli.meli_ecommerce_orders_api.dto.OrderField;
+import com.meli.meli_ecommerce_orders_api.dto.OrderLineItemResponse;
+import com.meli.meli_ecommerce_orders_api.dto.PartialOrder;
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import com.meli.meli_ecommerce_orders_api.model.OrderLineItem;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Criteria-based implementation of {@link PartialOrderRepository}.
+ * Spring Data picks it up by naming convention and mixes it into {@link OrderRepository}.
+ */
+class PartialOrderRepositoryImpl implements PartialOrderRepository {
+
+    private static final String FIND_ITEMS = "select i.order.id, i.id, i.productId, i.productName, i.quantity, "
+            + "i.pricePerUnit, i.totalPrice from OrderLineItem i where i.order.id in :orderIds";
+
+    // Always selected, in this order, ahead of the requested columns.
+    private static final int ID = 0;
+    private static final int ORDER_DATE = 1;
+    private static final int LAST_UPDATED_DATE = 2;
+
+    private final EntityManager entityManager;
+
+    PartialOrderRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<PartialOrder> findPartial(Specification<Order> spec, Sort sort, int limit, Set<OrderField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Order> order = query.from(Order.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(order.get("id"));
+        selections.add(order.get("orderDate"));
+        selections.add(order.get("lastUpdatedDate"));
+        for (OrderField field : fields) {
+            switch (field) {
+                case CREATED_BY -> selections.add(order.get("createdBy").alias(field.name()));
+                case STATUS -> selections.add(order.get("status").alias(field.name()));
+                case TOTAL_PRICE -> selections.add(order.get("totalPrice").alias(field.name()));
+                case ITEM_COUNT -> {
+                    Subquery<Long> itemCount = query.subquery(Long.class);
+                    Root<OrderLineItem> item = itemCount.from(OrderLineItem.class);
+                    itemCount.select(cb.count(item)).where(cb.equal(item.get("order"), order));
+                    selections.add(itemCount.alias(field.name()));
+                }
+                default -> {
+                    // Already selected, or read by the items query.
+                }
+            }
+        }
+        query.multiselect(selections);
+
+        Predicate predicate = spec.toPredicate(order, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, order, cb));
+
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+
+        Map<UUID, List<OrderLineItemResponse>> items = fields.contains(OrderField.ORDER_ITEMS) && !rows.isEmpty()
+                ? findItems(rows.stream().map(row -> row.get(ID, UUID.class)).toList())
+                : Map.of();
+
+        List<PartialOrder> orders = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            UUID id = row.get(ID, UUID.class);
+            LocalDateTime orderDate = row.get(ORDER_DATE, LocalDateTime.class);
+            LocalDateTime lastUpdatedDate = row.get(LAST_UPDATED_DATE, LocalDateTime.class);
+
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (OrderField field : fields) {
+                Object value = switch (field) {
+                    case ID -> id;
+                    case ORDER_DATE -> orderDate;
+                    case LAST_UPDATED_DATE -> lastUpdatedDate;
+                    case ORDER_ITEMS -> items.getOrDefault(id, List.of());
+                    default -> row.get(field.name());
+                };
+                values.put(field.getJsonName(), value);
+            }
+            orders.add(new PartialOrder(id, orderDate, lastUpdatedDate, values));
+        }
+        return orders;
+    }
+
+    // Reads the line items of a whole page with one query on the order_id foreign key.
+    private Map<UUID, List<OrderLineItemResponse>> findItems(List<UUID> orderIds) {
+        List<Tuple> rows = entityManager.createQuery(FIND_ITEMS, Tuple.class)
+                .setParameter("orderIds", orderIds)
+                .getResultList();
+
+        Map<UUID, List<OrderLineItemResponse>> items = new HashMap<>();
+        for (Tuple row : rows) {
+            items.computeIfAbsent(row.get(0, UUID.class), id -> new ArrayList<>())
+                    .add(new OrderLineItemResponse(row.get(1, UUID.class), row.get(2, UUID.class),
+                            row.get(3, String.class), row.get(4, Integer.class),
+                            row.get(5, BigDecimal.class), row.get(6, BigDecimal.class)));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,30 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.meli.meli_ecommerce_orders_api.dto.OrderEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+/**
+ * In-process publisher: each event is published as a Spring application event, so any
+ * {@code @EventListener(OrderEvent.class)} in this application receives it. Used when no
+ * external transport is configured, and in tests.
+ */
+public class ApplicationEventOrderEventPublisher implements OrderEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * Instantiates a new in-process order event publisher.
+     *
+     * @param applicationEventPublisher the application context's event publisher
+     */
+    public ApplicationEventOrderEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public void publish(List<OrderEvent> events) {
+        events.forEach(applicationEventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,122 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.meli.meli_ecommerce_orders_api.config.OrdersProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Checks database connectivity in the background and keeps the last result in memory.
+ * <p>
+ * Health requests read {@link #snapshot()} and never touch the database, so frequent
+ * polling costs nothing and a slow database cannot hold a request thread. The check runs
+ * every {@code orders.health.probe-interval} on the scheduler: it borrows a pooled
+ * connection and validates it within {@code orders.health.probe-timeout}. The product name
+ * and version are read from the metadata once and reused. Only changes between up and
+ * down are logged.
+ * </p>
+ * <p>
+ * A snapshot older than {@code orders.health.max-age} is reported as down, so a probe
+ * that is stuck waiting for a connection does not keep advertising a healthy database.
+ * </p>
+ */
+@Component
+public class DatabaseHealthProbe {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseHealthProbe.class);
+
+    private final DataSource dataSource;
+    private final OrdersProperties properties;
+    private final Clock clock;
+
+    private volatile Snapshot snapshot;
+    private volatile String databaseProduct;
+
+    /**
+     * The result of one database check.
+     *
+     * @param connected whether a connection could be borrowed and validated
+     * @param message   the database product on success, the reason otherwise
+     * @param checkedAt when the check finished, or {@code null} before the first check
+     */
+    public record Snapshot(boolean connected, String message, Instant checkedAt) {
+    }
+
+    /**
+     * Instantiates a new Database health probe.
+     *
+     * @param dataSource the pooled data source to check
+     * @param properties the orders configuration
+     */
+    @Autowired
+    public DatabaseHealthProbe(DataSource dataSource, OrdersProperties properties) {
+        this(dataSource, properties, Clock.systemUTC());
+    }
+
+    DatabaseHealthProbe(DataSource dataSource, OrdersProperties properties, Clock clock) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+        this.clock = clock;
+        this.snapshot = new Snapshot(false, "Database not checked yet", null);
+    }
+
+    /**
+     * Returns the last check result without touching the database. A result older than
+     * {@code orders.health.max-age} is returned as disconnected.
+     *
+     * @return the latest snapshot
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current.connected()
+                && current.checkedAt().plus(properties.getHealth().getMaxAge()).isBefore(clock.instant())) {
+            return new Snapshot(false, "Database check is stale", current.checkedAt());
+        }
+        return current;
+    }
+
+    /**
+     * Checks the database and replaces the snapshot. Runs right after startup, then waits
+     * {@code orders.health.probe-interval} between checks.
+     *
+     * @return the new snapshot
+     */
+    @Scheduled(fixedDelayString = "${orders.health.probe-interval:10s}")
+    public Snapshot probe() {
+        Snapshot previous = snapshot;
+        Snapshot next = check();
+        snapshot = next;
+        if (next.connected() && !previous.connected()) {
+            logger.info("Database is reachable: {}", next.message());
+        } else if (!next.connected() && (previous.connected() || previous.checkedAt() == null)) {
+            logger.warn("Database is unreachable: {}", next.message());
+        }
+        return next;
+    }
+
+    private Snapshot check() {
+        Duration timeout = properties.getHealth().getProbeTimeout();
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid((int) Math.max(1, timeout.toSeconds()))) {
+                return new Snapshot(false, "Connection validation failed", clock.instant());
+            }
+            if (databaseProduct == null) {
+                DatabaseMetaData metaData = connection.getMetaData();
+                databaseProduct = metaData.getDatabaseProductName() + " " + metaData.getDatabaseProductVersion();
+            }
+            return new Snapshot(true, "Connected to " + databaseProduct, clock.instant());
+        } catch (SQLException e) {
+            return new Snapshot(false, "Database connection failed: " + e.getMessage(), clock.instant());
+        }
+    }
+}
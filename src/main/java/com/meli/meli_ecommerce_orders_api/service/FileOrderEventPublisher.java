@@ -0,0 +1,60 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.meli.meli_ecommerce_orders_api.dto.OrderEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends events to a local file as newline-delimited JSON, one event per line.
+ * <p>
+ * Each batch is written with a single append and forced to disk before {@link #publish}
+ * returns, so a batch is never removed from the outbox before it is durable. Meant for
+ * local runs and tests, or as the input of a log shipper.
+ * </p>
+ */
+public class FileOrderEventPublisher implements OrderEventPublisher {
+
+    private final Path file;
+    private final ObjectWriter eventWriter;
+
+    /**
+     * Instantiates a new file order event publisher.
+     *
+     * @param file         the file to append to, created if missing
+     * @param objectMapper the mapper used to serialize each event
+     */
+    public FileOrderEventPublisher(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.eventWriter = objectMapper.writerFor(OrderEvent.class);
+    }
+
+    @Override
+    public synchronized void publish(List<OrderEvent> events) throws IOException {
+        ByteArrayOutputStream batch = new ByteArrayOutputStream(events.size() * 256);
+        for (OrderEvent event : events) {
+            eventWriter.writeValue(batch, event);
+            batch.write('\n');
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(batch.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.meli.meli_ecommerce_orders_api.exceptions.InvalidRequestException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Exact money arithmetic on minor units (cents) held in a {@code long}.
+ * <p>
+ * Prices enter as {@link BigDecimal} and are converted once; line and order totals are then
+ * computed with overflow-checked {@code long} arithmetic and only turned back into
+ * {@link BigDecimal} when stored on the entity. Amounts are bounded by the
+ * {@code precision = 10, scale = 2} price columns.
+ * </p>
+ */
+public final class Money {
+
+    /**
+     * Number of decimal places of every stored amount.
+     */
+    public static final int SCALE = 2;
+
+    /**
+     * Largest amount, in minor units, that fits a {@code NUMERIC(10, 2)} column (99,999,999.99).
+     */
+    public static final long MAX_MINOR_UNITS = 9_999_999_999L;
+
+    private Money() {
+    }
+
+    /**
+     * Converts an amount to minor units.
+     *
+     * @param amount the amount, with at most {@link #SCALE} decimal places
+     * @param field  the field name used in error messages
+     * @return the amount in minor units
+     * @throws InvalidRequestException if the amount is missing, has fractional cents or is out of range
+     */
+    public static long toMinorUnits(BigDecimal amount, String field) {
+        if (amount == null) {
+            throw new InvalidRequestException(field + " is required");
+        }
+        try {
+            return checkRange(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact(), field);
+        } catch (ArithmeticException e) {
+            throw new InvalidRequestException(
+                    field + " must have at most " + SCALE + " decimal places and fit in NUMERIC(10, 2): " + amount);
+        }
+    }
+
+    /**
+     * Multiplies a unit price by a quantity.
+     *
+     * @param unitPrice the unit price in minor units
+     * @param quantity  the quantity
+     * @param field     the field name used in error messages
+     * @return the product in minor units
+     * @throws InvalidRequestException if the result does not fit in {@code NUMERIC(10, 2)}
+     */
+    public static long multiply(long unitPrice, int quantity, String field) {
+        try {
+            return checkRange(Math.multiplyExact(unitPrice, quantity), field);
+        } catch (ArithmeticException e) {
+            throw overflow(field);
+        }
+    }
+
+    /**
+     * Adds two amounts.
+     *
+     * @param augend the running total in minor units
+     * @param addend the amount to add in minor units
+     * @param field  the field name used in error messages
+     * @return the sum in minor units
+     * @throws InvalidRequestException if the result does not fit in {@code NUMERIC(10, 2)}
+     */
+    public static long add(long augend, long addend, String field) {
+        try {
+            return checkRange(Math.addExact(augend, addend), field);
+        } catch (ArithmeticException e) {
+            throw overflow(field);
+        }
+    }
+
+    /**
+     * Converts minor units back to a {@link BigDecimal} with {@link #SCALE} decimal places.
+     *
+     * @param minorUnits the amount in minor units
+     * @return the amount, e.g. {@code 1050} becomes {@code 10.50}
+     */
+    public static BigDecimal toBigDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    private static long checkRange(long minorUnits, String field) {
+        if (minorUnits > MAX_MINOR_UNITS || minorUnits < -MAX_MINOR_UNITS) {
+            throw overflow(field);
+        }
+        return minorUnits;
+    }
+
+    private static InvalidRequestException overflow(String field) {
+        return new InvalidRequestException(field + " exceeds the maximum amount of " + toBigDecimal(MAX_MINOR_UNITS));
+    }
+}
@@ -0,0 +1,93 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.meli.meli_ecommerce_orders_api.config.CacheConfig;
+import com.meli.meli_ecommerce_orders_api.config.OrdersProperties;
+import com.meli.meli_ecommerce_orders_api.dto.OrderAggregate;
+import com.meli.meli_ecommerce_orders_api.dto.OrderAnalyticsGroupBy;
+import com.meli.meli_ecommerce_orders_api.dto.OrderAnalyticsResponse;
+import com.meli.meli_ecommerce_orders_api.exceptions.InvalidRequestException;
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+import com.meli.meli_ecommerce_orders_api.repository.OrderRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.meli.meli_ecommerce_orders_api.repository.OrderSpecifications.*;
+
+/**
+ * Order counts and revenue for dashboards.
+ * <p>
+ * The aggregation runs in the database, so a dashboard panel costs one {@code GROUP BY}
+ * query returning one row per group instead of downloading every order. Results are cached
+ * for {@code orders.analytics.cache-ttl}, so dashboards refreshing the same panel share
+ * one query per TTL.
+ * </p>
+ */
+@Service
+public class OrderAnalyticsService {
+
+    private final OrderRepository orderRepository;
+    private final OrdersProperties properties;
+
+    /**
+     * Instantiates a new Order analytics service.
+     *
+     * @param orderRepository the order repository
+     * @param properties      the orders properties
+     */
+    public OrderAnalyticsService(OrderRepository orderRepository, OrdersProperties properties) {
+        this.orderRepository = orderRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * Aggregates the active orders placed in {@code [from, to)}.
+     * The cache key is the raw arguments, so a request without {@code to} ("up to now")
+     * is served from cache for the TTL like any other.
+     *
+     * @param groupBy   the grouping dimension
+     * @param from      the start of the range, inclusive; defaults to {@code to} minus {@code orders.analytics.default-range}
+     * @param to        the end of the range, exclusive; defaults to now
+     * @param status    optional status filter
+     * @param createdBy optional customer filter
+     * @param limit     the maximum number of groups, or null for {@code orders.analytics.max-groups}
+     * @return the aggregates
+     * @throws InvalidRequestException if {@code from} is not before {@code to}
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = OrderService.TIMER_NAME, extraTags = {"operation", "analytics"})
+    @Cacheable(cacheNames = CacheConfig.ORDER_ANALYTICS_CACHE)
+    public OrderAnalyticsResponse getAnalytics(OrderAnalyticsGroupBy groupBy, LocalDateTime from, LocalDateTime to,
+                                               OrderStatus status, UUID createdBy, Integer limit) {
+        OrdersProperties.Analytics analytics = properties.getAnalytics();
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minus(analytics.getDefaultRange());
+        if (!start.isBefore(end)) {
+            throw new InvalidRequestException("'from' must be before 'to'");
+        }
+        int maxGroups = limit == null || limit <= 0
+                ? analytics.getMaxGroups()
+                : Math.min(limit, analytics.getMaxGroups());
+
+        Specification<Order> spec = isActive().and(isPlacedBetween(start, end));
+        if (status != null) {
+            spec = spec.and(hasStatus(status));
+        }
+        if (createdBy != null) {
+            spec = spec.and(isCreatedBy(createdBy));
+        }
+
+        // Fetch one extra group to report truncation without a COUNT query.
+        List<OrderAggregate> groups = orderRepository.aggregate(spec, groupBy, maxGroups + 1);
+        boolean truncated = groups.size() > maxGroups;
+        return new OrderAnalyticsResponse(groupBy, start, end,
+                truncated ? groups.subList(0, maxGroups) : groups, truncated);
+    }
+}
@@ -0,0 +1,171 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.meli.meli_ecommerce_orders_api.config.CacheConfig;
+import com.meli.meli_ecommerce_orders_api.config.OrdersProperties;
+import com.meli.meli_ecommerce_orders_api.dto.BulkDeleteOrdersResponse;
+import com.meli.meli_ecommerce_orders_api.exceptions.InvalidRequestException;
+import com.meli.meli_ecommerce_orders_api.repository.OrderOutboxRepository;
+import com.meli.meli_ecommerce_orders_api.repository.OrderRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Soft-deletes many orders at once without loading them.
+ * <p>
+ * Work is split into chunks of {@code orders.bulk-delete.chunk-size} orders, each updated
+ * by one UPDATE in its own short transaction. Row locks are released after every chunk and
+ * memory stays bounded, so deleting a seller's whole backlog does not block other writers.
+ * The operation is not atomic: chunks committed before a failure stay deleted, and running
+ * the same request again only deletes what is left.
+ * </p>
+ */
+@Service
+public class OrderBulkDeleteService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderBulkDeleteService.class);
+
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final OrderCounters orderCounters;
+    private final OrderOutboxRepository outboxRepository;
+    private final OrdersProperties properties;
+    private final RecentOrderWrites recentOrderWrites;
+
+    /**
+     * Instantiates a new Order bulk delete service.
+     *
+     * @param orderRepository     the order repository
+     * @param transactionTemplate the template running one transaction per chunk
+     * @param cacheManager        the cache manager holding the orders cache
+     * @param orderCounters       the live counters the deleted orders are removed from
+     * @param outboxRepository    the outbox the DELETED events are written to
+     * @param properties          the orders configuration
+     * @param recentOrderWrites   the orders to read back from the primary after a write
+     */
+    public OrderBulkDeleteService(OrderRepository orderRepository, TransactionTemplate transactionTemplate,
+                                  CacheManager cacheManager, OrderCounters orderCounters,
+                                  OrderOutboxRepository outboxRepository, OrdersProperties properties,
+                                  RecentOrderWrites recentOrderWrites) {
+        this.orderRepository = orderRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheManager = cacheManager;
+        this.orderCounters = orderCounters;
+        this.outboxRepository = outboxRepository;
+        this.properties = properties;
+        this.recentOrderWrites = recentOrderWrites;
+    }
+
+    /**
+     * Soft-deletes the given orders. Unknown and already deleted ids are ignored.
+     *
+     * @param ids the order ids
+     * @return how many orders were deleted
+     * @throws InvalidRequestException if no ids or more than {@code orders.bulk-delete.max-ids} are given
+     */
+    @Timed(value = OrderService.TIMER_NAME, extraTags = {"operation", "bulkDeleteByIds"})
+    public BulkDeleteOrdersResponse deleteByIds(List<UUID> ids) {
+        int maxIds = properties.getBulkDelete().getMaxIds();
+        if (ids == null || ids.isEmpty()) {
+            throw new InvalidRequestException("ids cannot be empty");
+        }
+        if (ids.size() > maxIds) {
+            throw new InvalidRequestException("A bulk delete may contain at most " + maxIds + " ids");
+        }
+
+        List<UUID> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        int chunkSize = properties.getBulkDelete().getChunkSize();
+        long deleted = 0;
+        int chunks = 0;
+        for (int start = 0; start < distinct.size(); start += chunkSize) {
+            deleted += deleteChunk(distinct.subList(start, Math.min(start + chunkSize, distinct.size())));
+            chunks++;
+        }
+        logger.info("Bulk deleted {} of {} requested orders in {} chunks", deleted, distinct.size(), chunks);
+        return new BulkDeleteOrdersResponse(deleted, chunks);
+    }
+
+    /**
+     * Soft-deletes every active order of a customer placed in {@code [from, to)}.
+     *
+     * @param createdBy the customer id
+     * @param from      the start of the order date range, inclusive
+     * @param to        the end of the order date range, exclusive
+     * @return how many orders were deleted
+     * @throws InvalidRequestException if the range is missing or empty
+     */
+    @Timed(value = OrderService.TIMER_NAME, extraTags = {"operation", "bulkDeleteByCustomer"})
+    public BulkDeleteOrdersResponse deleteByCreatedBy(UUID createdBy, LocalDateTime from, LocalDateTime to) {
+        if (createdBy == null || from == null || to == null) {
+            throw new InvalidRequestException("createdBy, from and to are required");
+        }
+        if (!from.isBefore(to)) {
+            throw new InvalidRequestException("from must be before to");
+        }
+
+        Limit chunkLimit = Limit.of(properties.getBulkDelete().getChunkSize());
+        long deleted = 0;
+        int chunks = 0;
+        while (true) {
+            // Deleted orders leave the filter, so the next chunk is always the first one. A chunk
+            // deleted concurrently between the SELECT and the UPDATE counts 0 but is not the end.
+            Chunk chunk = transactionTemplate.execute(status -> {
+                List<UUID> ids = orderRepository.findActiveIdsByCreatedBy(createdBy, from, to, chunkLimit);
+                return new Chunk(ids, ids.isEmpty() ? 0 : softDelete(ids));
+            });
+            if (chunk == null || chunk.ids().isEmpty()) {
+                break;
+            }
+            evict(chunk.ids());
+            deleted += chunk.deleted();
+            chunks++;
+        }
+        logger.info("Bulk deleted {} orders of customer {} in {} chunks", deleted, createdBy, chunks);
+        return new BulkDeleteOrdersResponse(deleted, chunks);
+    }
+
+    private int deleteChunk(List<UUID> ids) {
+        Integer count = transactionTemplate.execute(status -> softDelete(ids));
+        evict(ids);
+        return count == null ? 0 : count;
+    }
+
+    // Runs inside the chunk's transaction: the UPDATE still locks the rows when their totals are
+    // read and their DELETED events are written.
+    private int softDelete(List<UUID> ids) {
+        // Truncated to what the column stores, so the totals and outbox queries can match on it.
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int deleted = orderRepository.softDeleteByIdIn(ids, now);
+        if (deleted > 0) {
+            outboxRepository.insertDeleted(ids, now);
+            LocalDate today = LocalDate.now();
+            orderCounters.recordDeleted(orderRepository.findDeletedTotals(ids, now, today.atStartOfDay()), today);
+            recentOrderWrites.recordAll(ids);
+        }
+        return deleted;
+    }
+
+    // Called once the chunk's transaction has committed, like @CacheEvict on the single delete.
+    private void evict(List<UUID> ids) {
+        Cache cache = cacheManager.getCache(CacheConfig.ORDERS_CACHE);
+        if (cache != null) {
+            ids.forEach(cache::evict);
+        }
+    }
+
+    private record Chunk(List<UUID> ids, int deleted) {
+    }
+}
@@ -0,0 +1,329 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.meli.meli_ecommerce_orders_api.dto.OrderCountersResponse;
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+import com.meli.meli_ecommerce_orders_api.repository.OrderAmount;
+import com.meli.meli_ecommerce_orders_api.repository.OrderRepository;
+import com.meli.meli_ecommerce_orders_api.repository.OrderStatusTotals;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Live order totals kept in memory, so dashboards read them in constant time instead of
+ * querying the database.
+ * <p>
+ * Every counter is a {@link LongAdder}: concurrent writers update separate cells instead of
+ * contending on one value, and a read sums the cells. Updates are applied when the writing
+ * transaction commits, so rolled-back orders are never counted.
+ * </p>
+ * <p>
+ * The counters are seeded from one aggregate query at startup and reconciled against the
+ * database every {@code orders.counters.reconcile-interval}, which corrects changes made
+ * outside this instance, such as other replicas or manual SQL. Reconciliation adds the
+ * difference between the query and the counters read just before it. For that difference
+ * to be exact, no write of this instance may commit between the two reads, or it would be
+ * in the query result and then counted again by its own update. Writers therefore pass a
+ * shared read lock from just before their commit until their update is applied, and the
+ * reconciliation holds the write lock while it reads: commits wait for one aggregate query
+ * every interval.
+ * </p>
+ */
+@Component
+public class OrderCounters implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderCounters.class);
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ReadWriteLock commitGate = new ReentrantReadWriteLock();
+
+    private final LongAdder[] activeByStatus = new LongAdder[STATUSES.length];
+    private final AtomicReference<DailyRevenue> revenue = new AtomicReference<>(new DailyRevenue(LocalDate.now()));
+    private final SlidingWindow createdLastMinute = new SlidingWindow(60);
+    private volatile LocalDateTime reconciledAt;
+
+    /**
+     * Instantiates new Order counters.
+     *
+     * @param orderRepository     the repository used to seed and reconcile the counters
+     * @param transactionTemplate the template running the reconciliation's transaction
+     * @param entityManager       the entity manager whose connection the reconciliation reads with
+     */
+    public OrderCounters(OrderRepository orderRepository, TransactionTemplate transactionTemplate,
+                         EntityManager entityManager) {
+        this.orderRepository = orderRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        for (int i = 0; i < activeByStatus.length; i++) {
+            activeByStatus[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Counts a newly created order once its transaction commits.
+     *
+     * @param order the saved order; its order date is read after the INSERT
+     */
+    public void recordCreated(Order order) {
+        afterCommit(() -> {
+            activeByStatus[order.getStatus().ordinal()].increment();
+            addRevenue(order.getOrderDate(), Money.toMinorUnits(order.getTotalPrice(), "totalPrice"));
+            createdLastMinute.increment(Instant.now().getEpochSecond());
+        });
+    }
+
+    /**
+     * Moves an active order from one status count to another once the transaction commits.
+     *
+     * @param from the previous status
+     * @param to   the new status
+     */
+    public void recordStatusChange(OrderStatus from, OrderStatus to) {
+        afterCommit(() -> {
+            activeByStatus[from.ordinal()].decrement();
+            activeByStatus[to.ordinal()].increment();
+        });
+    }
+
+    /**
+     * Removes a soft-deleted order from the counters once the transaction commits.
+     *
+     * @param order the deleted order's amounts
+     */
+    public void recordDeleted(OrderAmount order) {
+        afterCommit(() -> {
+            activeByStatus[order.getStatus().ordinal()].decrement();
+            addRevenue(order.getOrderDate(), -Money.toMinorUnits(order.getTotalPrice(), "totalPrice"));
+        });
+    }
+
+    /**
+     * Removes bulk-deleted orders from the counters once the transaction commits.
+     *
+     * @param deleted per-status totals of the deleted orders, with the revenue placed since {@code day}
+     * @param day     the day the revenue totals were computed for
+     */
+    public void recordDeleted(List<OrderStatusTotals> deleted, LocalDate day) {
+        afterCommit(() -> {
+            for (OrderStatusTotals totals : deleted) {
+                activeByStatus[totals.getStatus().ordinal()].add(-totals.getOrderCount());
+                addRevenue(day.atStartOfDay(), -Money.toMinorUnits(totals.getRevenueSince(), "revenue"));
+            }
+        });
+    }
+
+    /**
+     * Reads the current counters.
+     *
+     * @return the counters snapshot
+     */
+    public OrderCountersResponse snapshot() {
+        Map<OrderStatus, Long> byStatus = new EnumMap<>(OrderStatus.class);
+        long total = 0;
+        for (OrderStatus status : STATUSES) {
+            long count = activeByStatus[status.ordinal()].sum();
+            byStatus.put(status, count);
+            total += count;
+        }
+        DailyRevenue today = currentRevenue();
+        return new OrderCountersResponse(byStatus, total, today.day(), Money.toBigDecimal(today.cents().sum()),
+                createdLastMinute.sum(Instant.now().getEpochSecond()), reconciledAt);
+    }
+
+    /**
+     * Seeds the counters before the first dashboard poll.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    /**
+     * Corrects the counters from one aggregate query over the active orders.
+     */
+    @Scheduled(initialDelayString = "${orders.counters.reconcile-interval:5m}",
+            fixedDelayString = "${orders.counters.reconcile-interval:5m}")
+    public void reconcile() {
+        transactionTemplate.executeWithoutResult(status -> {
+            // Take the connection before closing the gate: writers waiting at the gate hold theirs,
+            // so with the pool exhausted the query could otherwise never run.
+            entityManager.unwrap(Session.class).doWork(Connection::getMetaData);
+            Lock gate = commitGate.writeLock();
+            gate.lock();
+            try {
+                reconcileWithGateClosed();
+            } finally {
+                gate.unlock();
+            }
+        });
+    }
+
+    private void reconcileWithGateClosed() {
+        DailyRevenue today = currentRevenue();
+        long[] before = new long[STATUSES.length];
+        for (int i = 0; i < before.length; i++) {
+            before[i] = activeByStatus[i].sum();
+        }
+        long revenueBefore = today.cents().sum();
+
+        long[] actual = new long[STATUSES.length];
+        long actualRevenue = 0;
+        for (OrderStatusTotals totals : orderRepository.findActiveTotals(today.day().atStartOfDay())) {
+            actual[totals.getStatus().ordinal()] = totals.getOrderCount();
+            actualRevenue += Money.toMinorUnits(totals.getRevenueSince(), "revenue");
+        }
+
+        long drift = 0;
+        for (int i = 0; i < actual.length; i++) {
+            activeByStatus[i].add(actual[i] - before[i]);
+            drift += Math.abs(actual[i] - before[i]);
+        }
+        today.cents().add(actualRevenue - revenueBefore);
+        reconciledAt = LocalDateTime.now();
+
+        if (drift != 0 || actualRevenue != revenueBefore) {
+            logger.info("Reconciled order counters: {} orders and {} revenue cents corrected",
+                    drift, actualRevenue - revenueBefore);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (OrderStatus status : STATUSES) {
+            Gauge.builder("orders.active", activeByStatus[status.ordinal()], LongAdder::sum)
+                    .tag("status", status.name())
+                    .description("Active orders by status, from the live counters")
+                    .register(registry);
+        }
+    }
+
+    private void addRevenue(LocalDateTime orderDate, long cents) {
+        DailyRevenue today = currentRevenue();
+        if (orderDate != null && orderDate.toLocalDate().equals(today.day())) {
+            today.cents().add(cents);
+        }
+    }
+
+    // Starts a new revenue counter on the first access of a new day.
+    private DailyRevenue currentRevenue() {
+        LocalDate day = LocalDate.now();
+        DailyRevenue current = revenue.get();
+        if (current.day().isBefore(day)) {
+            revenue.compareAndSet(current, new DailyRevenue(day));
+            current = revenue.get();
+        }
+        return current;
+    }
+
+    // Applies the update once the transaction commits, holding the commit gate from just before
+    // the commit until the update is applied (see the class comment).
+    private void afterCommit(Runnable update) {
+        Lock gate = commitGate.readLock();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            gate.lock();
+            try {
+                update.run();
+            } finally {
+                gate.unlock();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean gateHeld;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                gate.lock();
+                gateHeld = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (gateHeld) {
+                    gateHeld = false;
+                    gate.unlock();
+                }
+            }
+        });
+    }
+
+    private record DailyRevenue(LocalDate day, LongAdder cents) {
+        DailyRevenue(LocalDate day) {
+            this(day, new LongAdder());
+        }
+    }
+
+    /**
+     * Event count over the last {@code size} seconds, one adder per second.
+     * A slot is reset the first time it is reused for a newer second; an increment racing
+     * with that reset may be lost, which is acceptable for a rate.
+     */
+    private static final class SlidingWindow {
+        private final AtomicLongArray seconds;
+        private final LongAdder[] counts;
+
+        SlidingWindow(int size) {
+            seconds = new AtomicLongArray(size);
+            counts = new LongAdder[size];
+            for (int i = 0; i < size; i++) {
+                counts[i] = new LongAdder();
+            }
+        }
+
+        void increment(long epochSecond) {
+            int slot = (int) (epochSecond % counts.length);
+            long seen = seconds.get(slot);
+            if (seen < epochSecond && seconds.compareAndSet(slot, seen, epochSecond)) {
+                counts[slot].reset();
+            }
+            if (seconds.get(slot) == epochSecond) {
+                counts[slot].increment();
+            }
+        }
+
+        long sum(long epochSecond) {
+            long sum = 0;
+            for (int slot = 0; slot < counts.length; slot++) {
+                if (epochSecond - seconds.get(slot) < counts.length) {
+                    sum += counts[slot].sum();
+                }
+            }
+            return sum;
+        }
+    }
+}
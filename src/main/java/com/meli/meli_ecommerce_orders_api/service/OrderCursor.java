@@ -0,0 +1,79 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.meli.meli_ecommerce_orders_api.dto.OrderSummary;
+import com.meli.meli_ecommerce_orders_api.dto.PartialOrder;
+import com.meli.meli_ecommerce_orders_api.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last order returned in a page, ordered by {@code (orderDate, id)}.
+ * <p>
+ * Clients only ever see the encoded form: a URL-safe Base64 string, so the sort key can
+ * change later without breaking the contract.
+ * </p>
+ *
+ * @param orderDate the order date of the last order in the previous page
+ * @param id        the id of the last order in the previous page, used as a tie-breaker
+ */
+public record OrderCursor(LocalDateTime orderDate, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Builds the cursor pointing right after the given order.
+     *
+     * @param order the last order of the current page
+     * @return the cursor for the next page
+     */
+    public static OrderCursor after(OrderSummary order) {
+        return new OrderCursor(order.getOrderDate(), order.getId());
+    }
+
+    /**
+     * Builds the cursor pointing right after the given order.
+     *
+     * @param order the last order of the current page
+     * @return the cursor for the next page
+     */
+    public static OrderCursor after(PartialOrder order) {
+        return new OrderCursor(order.orderDate(), order.id());
+    }
+
+    /**
+     * Encodes the cursor into the opaque token sent to clients.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        String raw = orderDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @param token the opaque cursor sent by the client
+     * @return the decoded cursor
+     * @throws InvalidCursorException if the token is not a valid cursor
+     */
+    public static OrderCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException(token, null);
+            }
+            return new OrderCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // Bad Base64 and bad UUIDs are reported as IllegalArgumentException by the JDK.
+            throw new InvalidCursorException(token, e);
+        }
+    }
+}
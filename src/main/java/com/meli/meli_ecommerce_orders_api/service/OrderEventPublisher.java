@@ -0,0 +1,25 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.meli.meli_ecommerce_orders_api.dto.OrderEvent;
+
+import java.util.List;
+
+/**
+ * Delivers order events to downstream consumers (billing, shipping, ...).
+ * <p>
+ * Called by {@link OrderOutboxRelay} with one batch at a time, inside the transaction that
+ * holds the batch's outbox rows. Returning normally means every event of the batch was
+ * delivered and the rows are removed; throwing rolls the claim back and the whole batch is
+ * retried on the next run, so implementations must tolerate redelivery.
+ * </p>
+ */
+public interface OrderEventPublisher {
+
+    /**
+     * Publishes a batch of events, in order.
+     *
+     * @param events the events, oldest first
+     * @throws Exception if any event could not be delivered
+     */
+    void publish(List<OrderEvent> events) throws Exception;
+}
@@ -0,0 +1,91 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.meli.meli_ecommerce_orders_api.dto.OrderResponse;
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import com.meli.meli_ecommerce_orders_api.repository.OrderRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams the full order history as newline-delimited JSON (one {@link OrderResponse} per line).
+ * <p>
+ * Orders are read through a database cursor and detached from the persistence context
+ * as soon as they are written, so heap usage stays constant regardless of how many
+ * orders are exported.
+ * </p>
+ */
+@Service
+public class OrderExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderExportService.class);
+
+    // Flush the socket periodically so clients receive data while the export is running.
+    private static final int FLUSH_EVERY = 100;
+
+    private final OrderRepository orderRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter orderWriter;
+
+    /**
+     * Instantiates a new Order export service.
+     *
+     * @param orderRepository the order repository
+     * @param entityManager   the entity manager used to detach exported orders
+     * @param objectMapper    the mapper used to serialize each order
+     */
+    public OrderExportService(OrderRepository orderRepository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.orderRepository = orderRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        // Flushing is driven by FLUSH_EVERY instead of after every single order.
+        this.orderWriter = objectMapper.writerFor(OrderResponse.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes every order, soft-deleted ones included, to the given stream as NDJSON.
+     * The stream is flushed but not closed.
+     *
+     * @param out the response body
+     * @return the number of orders written
+     * @throws IOException if the client disconnects or the write fails
+     */
+    @Transactional(readOnly = true)
+    @Timed(value = OrderService.TIMER_NAME, extraTags = {"operation", "export"})
+    public long exportOrders(OutputStream out) throws IOException {
+        long count = 0;
+        try (Stream<Order> orders = orderRepository.streamAllWithItems();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                Order order = iterator.next();
+                orderWriter.writeValue(generator, OrderResponse.from(order));
+                generator.writeRaw('\n');
+                // Drop the order (and, through the cascade, its items) from the persistence context.
+                entityManager.detach(order);
+
+                if (++count % FLUSH_EVERY == 1) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+        logger.info("Exported {} orders", count);
+        return count;
+    }
+}
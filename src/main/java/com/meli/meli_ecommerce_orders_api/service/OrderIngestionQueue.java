@@ -0,0 +1,240 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.meli.meli_ecommerce_orders_api.config.OrdersProperties;
+import com.meli.meli_ecommerce_orders_api.dto.CreateOrderRequest;
+import com.meli.meli_ecommerce_orders_api.dto.OrderResponse;
+import com.meli.meli_ecommerce_orders_api.exceptions.IngestionUnavailableException;
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bounded queue in front of order creation that commits many orders per transaction.
+ * <p>
+ * Request threads validate and build their order, assign its id and enqueue it. A single
+ * writer thread takes whatever has queued up, up to {@code orders.ingestion.max-batch-size},
+ * and writes it with {@link OrderService#createPreparedOrders} in one transaction. Orders
+ * arriving while a commit is in flight form the next group, so the group size grows with
+ * the load and the commit cost is shared instead of paid once per order. If a group fails,
+ * its orders are retried one per transaction, so only the orders that cannot be written fail.
+ * </p>
+ * <p>
+ * The queue holds at most {@code orders.ingestion.capacity} orders. When it is full a
+ * request waits {@code orders.ingestion.offer-timeout} for room, then is rejected with
+ * {@link IngestionUnavailableException}. Queued orders live only in memory until their group
+ * commits: on shutdown the queue stops accepting orders and drains what it holds, failing
+ * whatever the writer could not reach in time, but a crash loses them.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "orders.ingestion", name = "enabled", havingValue = "true")
+public class OrderIngestionQueue implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderIngestionQueue.class);
+
+    // How long the idle writer blocks before checking whether it should stop.
+    private static final long POLL_MILLIS = 200;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 30_000;
+
+    private final OrderService orderService;
+    private final BlockingQueue<PendingOrder> queue;
+    private final int maxBatchSize;
+    private final Duration offerTimeout;
+    private final DistributionSummary batchSizes;
+    private final Counter rejected;
+
+    // Read-held by submit from the running check through the offer, write-held by stop to clear
+    // running, so no order is queued once the writer has been told to finish.
+    private final ReadWriteLock acceptance = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    private Thread writer;
+
+    /**
+     * An order accepted by the queue.
+     *
+     * @param id        the id the order will be stored under
+     * @param committed completes with the created order once its group commits, or
+     *                  exceptionally if the group could not be written
+     */
+    public record Submission(UUID id, CompletableFuture<OrderResponse> committed) {
+    }
+
+    private record PendingOrder(Order order, CompletableFuture<OrderResponse> committed) {
+    }
+
+    /**
+     * Instantiates a new Order ingestion queue.
+     *
+     * @param orderService the service that builds and writes the orders
+     * @param properties   the orders configuration
+     * @param registry     the registry the queue meters are published to
+     */
+    public OrderIngestionQueue(OrderService orderService, OrdersProperties properties, MeterRegistry registry) {
+        OrdersProperties.Ingestion ingestion = properties.getIngestion();
+        this.orderService = orderService;
+        this.queue = new ArrayBlockingQueue<>(ingestion.getCapacity());
+        this.maxBatchSize = ingestion.getMaxBatchSize();
+        this.offerTimeout = ingestion.getOfferTimeout();
+
+        Gauge.builder("orders.ingestion.queue.depth", queue, Collection::size)
+                .description("Orders waiting in the ingestion queue")
+                .register(registry);
+        this.batchSizes = DistributionSummary.builder("orders.ingestion.batch.size")
+                .description("Orders written per group commit")
+                .register(registry);
+        this.rejected = Counter.builder("orders.ingestion.rejected")
+                .description("Orders refused because the ingestion queue was full")
+                .register(registry);
+    }
+
+    /**
+     * Builds the order, assigns its id and queues it for the next group commit.
+     *
+     * @param request the validated request
+     * @return the assigned id and the pending commit
+     * @throws IllegalArgumentException      if a price or total cannot be represented
+     * @throws IngestionUnavailableException if the queue stayed full or is shutting down
+     */
+    public Submission submit(CreateOrderRequest request) {
+        PendingOrder pending = new PendingOrder(orderService.prepareOrder(request), new CompletableFuture<>());
+        boolean accepted;
+        Lock lock = acceptance.readLock();
+        lock.lock();
+        try {
+            if (!running) {
+                throw new IngestionUnavailableException("Order ingestion is not accepting orders");
+            }
+            accepted = queue.offer(pending, offerTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        } finally {
+            lock.unlock();
+        }
+        if (!accepted) {
+            rejected.increment();
+            throw new IngestionUnavailableException("Order ingestion queue is full, retry later");
+        }
+        return new Submission(pending.order().getId(), pending.committed());
+    }
+
+    @Override
+    public synchronized void start() {
+        running = true;
+        writer = new Thread(this::drain, "order-ingestion-writer");
+        writer.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        // Waits for submits already offering, at most offer-timeout each.
+        Lock lock = acceptance.writeLock();
+        lock.lock();
+        try {
+            running = false;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingOrder> left = new ArrayList<>();
+        queue.drainTo(left);
+        if (!left.isEmpty()) {
+            logger.warn("Order ingestion stopped with {} orders still queued, failing them", left.size());
+            IngestionUnavailableException stopped =
+                    new IngestionUnavailableException("Order ingestion stopped before the order was written");
+            left.forEach(pending -> pending.committed().completeExceptionally(stopped));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stop after the web server has stopped taking requests, so the final drain is complete.
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    // Writer loop: one group per iteration, until stopped and empty.
+    private void drain() {
+        List<PendingOrder> group = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingOrder first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                queue.drainTo(group, maxBatchSize - 1);
+                commit(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingOrder> group) {
+        batchSizes.record(group.size());
+        try {
+            write(group);
+        } catch (RuntimeException e) {
+            if (group.size() == 1) {
+                fail(group.get(0), e);
+                return;
+            }
+            // One bad order must not fail the unrelated ones it was grouped with. The retries
+            // are not recorded as groups, so the batch size metric only counts real groups.
+            logger.warn("Could not commit a group of {} ingested orders, retrying them one by one", group.size(), e);
+            for (PendingOrder pending : group) {
+                try {
+                    write(List.of(pending));
+                } catch (RuntimeException retryFailure) {
+                    fail(pending, retryFailure);
+                }
+            }
+        }
+    }
+
+    private void write(List<PendingOrder> group) {
+        List<OrderResponse> created = orderService.createPreparedOrders(
+                group.stream().map(PendingOrder::order).toList());
+        for (int i = 0; i < group.size(); i++) {
+            group.get(i).committed().complete(created.get(i));
+        }
+    }
+
+    private static void fail(PendingOrder pending, RuntimeException e) {
+        // Callers that did not wait for the commit only learn about it from this log.
+        logger.error("Could not commit ingested order {}", pending.order().getId(), e);
+        pending.committed().completeExceptionally(e);
+    }
+}
@@ -0,0 +1,95 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.meli.meli_ecommerce_orders_api.config.OrdersProperties;
+import com.meli.meli_ecommerce_orders_api.dto.OrderEvent;
+import com.meli.meli_ecommerce_orders_api.model.OrderOutboxEvent;
+import com.meli.meli_ecommerce_orders_api.repository.OrderOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Moves order events from the outbox to the {@link OrderEventPublisher}.
+ * <p>
+ * Each run drains the outbox batch by batch. A batch is claimed with
+ * {@code FOR UPDATE SKIP LOCKED}, published and deleted in one transaction, so several
+ * replicas can relay concurrently without blocking each other or publishing the same rows.
+ * A failed publish rolls the batch back, and it is retried on the next run. Events are
+ * therefore delivered at least once, in id order within a batch.
+ * </p>
+ */
+@Component
+public class OrderOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderOutboxRelay.class);
+
+    private final OrderOutboxRepository outboxRepository;
+    private final OrderEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final OrdersProperties properties;
+
+    /**
+     * Instantiates a new Order outbox relay.
+     *
+     * @param outboxRepository    the outbox repository
+     * @param publisher           the publisher events are handed to
+     * @param transactionTemplate the template running one transaction per batch
+     * @param properties          the orders configuration
+     */
+    public OrderOutboxRelay(OrderOutboxRepository outboxRepository, OrderEventPublisher publisher,
+                            TransactionTemplate transactionTemplate, OrdersProperties properties) {
+        this.outboxRepository = outboxRepository;
+        this.publisher = publisher;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * Publishes every pending event, then waits {@code orders.outbox.poll-interval} before
+     * the next run. Errors are logged and the remaining events are left for that run.
+     *
+     * @return the number of events published
+     */
+    @Scheduled(fixedDelayString = "${orders.outbox.poll-interval:1s}")
+    public long relay() {
+        int batchSize = properties.getOutbox().getBatchSize();
+        long published = 0;
+        try {
+            int count;
+            do {
+                count = relayBatch(batchSize);
+                published += count;
+            } while (count == batchSize);
+        } catch (RuntimeException e) {
+            logger.warn("Order event relay stopped after {} events, retrying on the next run", published, e);
+        }
+        if (published > 0) {
+            logger.debug("Relayed {} order events", published);
+        }
+        return published;
+    }
+
+    // Claims, publishes and deletes one batch in a single transaction.
+    private int relayBatch(int batchSize) {
+        Integer count = transactionTemplate.execute(status -> {
+            List<OrderOutboxEvent> claimed = outboxRepository.claimBatch(batchSize);
+            if (claimed.isEmpty()) {
+                return 0;
+            }
+            try {
+                publisher.publish(claimed.stream().map(OrderEvent::from).toList());
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException("Could not publish " + claimed.size() + " order events", e);
+            }
+            outboxRepository.deleteAllInBatch(claimed);
+            return claimed.size();
+        });
+        return count == null ? 0 : count;
+    }
+}
@@ -1,96 +1,440 @@
 package com.meli.meli_ecommerce_orders_api.service;
 
+import com.meli.meli_ecommerce_orders_api.config.CacheConfig;
+import com.meli.meli_ecommerce_orders_api.config.OrdersProperties;
+import com.meli.meli_ecommerce_orders_api.config.ReplicaRouting;
+import com.meli.meli_ecommerce_orders_api.dto.BatchCreateOrderResponse;
 import com.meli.meli_ecommerce_orders_api.dto.CreateOrderRequest;
+import com.meli.meli_ecommerce_orders_api.dto.CursorPage;
+import com.meli.meli_ecommerce_orders_api.dto.OrderField;
 import com.meli.meli_ecommerce_orders_api.dto.OrderLineItemRequest;
+import com.meli.meli_ecommerce_orders_api.dto.OrderResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderStatusResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderSummary;
+import com.meli.meli_ecommerce_orders_api.dto.PartialOrder;
+import com.meli.meli_ecommerce_orders_api.exceptions.InvalidRequestException;
+import com.meli.meli_ecommerce_orders_api.exceptions.InvalidStatusTransitionException;
 import com.meli.meli_ecommerce_orders_api.model.Order;
 import com.meli.meli_ecommerce_orders_api.model.OrderLineItem;
 import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+import com.meli.meli_ecommerce_orders_api.repository.OrderOutboxRepository;
 import com.meli.meli_ecommerce_orders_api.repository.OrderRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
+
+import static com.meli.meli_ecommerce_orders_api.repository.OrderSpecifications.*;
 
 @Service
 public class OrderService {
 
+    /**
+     * Timer recording the latency of every service operation, tagged by {@code operation}.
+     */
+    public static final String TIMER_NAME = "orders.service";
+
     private final OrderRepository orderRepository;
+    private final OrdersProperties properties;
+    private final Validator validator;
+    private final OrderCounters orderCounters;
+    private final OrderOutboxRepository outboxRepository;
+    private final RecentOrderWrites recentOrderWrites;
 
     /**
      * Instantiates a new Order service.
      *
      * @param orderRepository the order repository
+     * @param properties      the orders configuration
+     * @param validator       the validator applied to each order of a batch
+     * @param orderCounters    the live counters updated on every write
+     * @param outboxRepository the outbox every write records its order events in
+     * @param recentOrderWrites the orders to read back from the primary after a write
      */
     @Autowired
-    public OrderService(OrderRepository orderRepository) {
+    public OrderService(OrderRepository orderRepository, OrdersProperties properties, Validator validator,
+                        OrderCounters orderCounters, OrderOutboxRepository outboxRepository,
+                        RecentOrderWrites recentOrderWrites) {
         this.orderRepository = orderRepository;
+        this.properties = properties;
+        this.validator = validator;
+        this.orderCounters = orderCounters;
+        this.outboxRepository = outboxRepository;
+        this.recentOrderWrites = recentOrderWrites;
     }
 
     /**
      * Create order order.
+     * A CREATED event is written to the outbox in the same transaction.
      *
      * @param request the request
      * @return the order
      */
+    @Timed(value = TIMER_NAME, extraTags = {"operation", "create"})
     @Transactional
-    public Order createOrder(CreateOrderRequest request) {
-        Order newOrder = new Order();
-        newOrder.setCreatedBy(request.getCreatedBy());
-        newOrder.setStatus(OrderStatus.PENDING);
-        BigDecimal finalTotalPrice = BigDecimal.ZERO;
+    @CachePut(cacheNames = CacheConfig.ORDERS_CACHE, key = "#result.id")
+    public OrderResponse createOrder(CreateOrderRequest request) {
+        // Flushed so the generated timestamps are set before the response is copied from the entity.
+        Order order = orderRepository.saveAndFlush(buildOrder(request));
+        outboxRepository.insertCreated(List.of(order.getId()));
+        orderCounters.recordCreated(order);
+        recentOrderWrites.record(order.getId());
+        return OrderResponse.from(order);
+    }
 
-        for (OrderLineItemRequest itemRequest : request.getItems()) {
-            OrderLineItem lineItem = new OrderLineItem();
-            lineItem.setProductId(itemRequest.getProductId());
-            lineItem.setProductName(itemRequest.getProductName());
-            lineItem.setQuantity(itemRequest.getQuantity());
-            lineItem.setPricePerUnit(itemRequest.getPricePerUnit());
-            BigDecimal lineItemTotal = lineItem.getPricePerUnit().multiply(new BigDecimal(lineItem.getQuantity()));
-            lineItem.setTotalPrice(lineItemTotal);
-            finalTotalPrice = finalTotalPrice.add(lineItemTotal);
-            newOrder.addOrderItem(lineItem);
+    /**
+     * Creates many orders in a single transaction.
+     * <p>
+     * Every order is validated on its own; invalid ones are reported and skipped while the
+     * valid ones are persisted together, letting Hibernate group the INSERTs into JDBC batches
+     * (see {@code hibernate.jdbc.batch_size}). Ids are generated in memory, so nothing forces
+     * a round trip per row. The CREATED events of the whole batch are written to the outbox
+     * with one more statement.
+     * </p>
+     *
+     * @param requests the orders to create
+     * @return one result per request, in request order
+     */
+    @Timed(value = TIMER_NAME, extraTags = {"operation", "createBatch"})
+    @Transactional
+    public BatchCreateOrderResponse createOrders(List<CreateOrderRequest> requests) {
+        int maxSize = properties.getBatch().getMaxSize();
+        if (requests.size() > maxSize) {
+            throw new InvalidRequestException("A batch may contain at most " + maxSize + " orders");
+        }
+
+        BatchCreateOrderResponse.Result[] results = new BatchCreateOrderResponse.Result[requests.size()];
+        List<Order> toSave = new ArrayList<>(requests.size());
+        List<Integer> savedIndexes = new ArrayList<>(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateOrderRequest request = requests.get(i);
+            List<String> errors = validate(request);
+            if (errors.isEmpty()) {
+                try {
+                    toSave.add(buildOrder(request));
+                    savedIndexes.add(i);
+                    continue;
+                } catch (IllegalArgumentException e) {
+                    errors = List.of(e.getMessage());
+                }
+            }
+            results[i] = BatchCreateOrderResponse.Result.rejected(i, errors);
+        }
+
+        List<Order> saved = orderRepository.saveAll(toSave);
+        for (int i = 0; i < saved.size(); i++) {
+            int index = savedIndexes.get(i);
+            results[index] = BatchCreateOrderResponse.Result.created(index, saved.get(i).getId());
+            orderCounters.recordCreated(saved.get(i));
+        }
+        if (!saved.isEmpty()) {
+            List<UUID> ids = saved.stream().map(Order::getId).toList();
+            outboxRepository.insertCreated(ids);
+            recentOrderWrites.recordAll(ids);
+        }
+        return new BatchCreateOrderResponse(List.of(results));
+    }
+
+    /**
+     * Builds a new order from a validated request and assigns its id, without writing it.
+     * Used by the ingestion queue, which hands the id out before the order is committed.
+     *
+     * @param request the validated request
+     * @return the unsaved order
+     * @throws InvalidRequestException if a price or total cannot be represented
+     */
+    public Order prepareOrder(CreateOrderRequest request) {
+        Order order = buildOrder(request);
+        order.setId(UUID.randomUUID());
+        return order;
+    }
+
+    /**
+     * Writes a group of prepared orders in one transaction: their INSERTs are sent as JDBC
+     * batches and their CREATED events as a single outbox statement, so the whole group
+     * costs one commit.
+     *
+     * @param orders orders returned by {@link #prepareOrder}
+     * @return the created orders, in the same order
+     */
+    @Timed(value = TIMER_NAME, extraTags = {"operation", "createGroup"})
+    @Transactional
+    public List<OrderResponse> createPreparedOrders(List<Order> orders) {
+        orderRepository.insertAll(orders);
+        List<UUID> ids = orders.stream().map(Order::getId).toList();
+        outboxRepository.insertCreated(ids);
+        recentOrderWrites.recordAll(ids);
+        List<OrderResponse> created = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            orderCounters.recordCreated(order);
+            created.add(OrderResponse.from(order));
         }
+        return created;
+    }
+
+    /**
+     * Gets one page of active orders, newest first, using keyset pagination on
+     * {@code (orderDate, id)} so the cost of a page does not grow with the table size.
+     * Only summaries are read; line items are never loaded for listings. Served by the read
+     * replica when one is configured.
+     *
+     * @param cursor    the opaque cursor returned with the previous page, or null for the first page
+     * @param limit     the requested page size, or null for the configured default
+     * @param status    optional status filter
+     * @param createdBy optional customer filter
+     * @return the page of orders and the cursor for the next one
+     */
+    @Timed(value = TIMER_NAME, extraTags = {"operation", "list"})
+    @Transactional(readOnly = true)
+    public CursorPage<OrderSummary> getActiveOrders(String cursor, Integer limit, OrderStatus status, UUID createdBy) {
+        int pageSize = resolvePageSize(limit);
+        Specification<Order> spec = listSpecification(cursor, status, createdBy);
+
+        // Fetch one extra row to know whether another page exists without a COUNT query.
+        List<OrderSummary> rows = orderRepository.findSummaries(spec, KEYSET_SORT, pageSize + 1);
 
-        newOrder.setTotalPrice(finalTotalPrice);
-        return orderRepository.save(newOrder);
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<OrderSummary> page = rows.subList(0, pageSize);
+        return new CursorPage<>(page, OrderCursor.after(page.get(pageSize - 1)).encode());
     }
 
     /**
-     * Gets all active orders.
+     * Same as {@link #getActiveOrders}, but only the requested fields are selected from the
+     * database and returned. Line items are only read when {@link OrderField#ORDER_ITEMS} is requested.
      *
-     * @return the all active orders
+     * @param cursor    the opaque cursor returned with the previous page, or null for the first page
+     * @param limit     the requested page size, or null for the configured default
+     * @param status    optional status filter
+     * @param createdBy optional customer filter
+     * @param fields    the fields to return, not empty
+     * @return the page of orders and the cursor for the next one
      */
-    public List<Order> getAllActiveOrders() {
-        return orderRepository.findByDeletedAtIsNull();
+    @Timed(value = TIMER_NAME, extraTags = {"operation", "listFields"})
+    @Transactional(readOnly = true)
+    public CursorPage<PartialOrder> getActiveOrders(String cursor, Integer limit, OrderStatus status, UUID createdBy,
+                                                    Set<OrderField> fields) {
+        int pageSize = resolvePageSize(limit);
+        Specification<Order> spec = listSpecification(cursor, status, createdBy);
+
+        List<PartialOrder> rows = orderRepository.findPartial(spec, KEYSET_SORT, pageSize + 1, fields);
+
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<PartialOrder> page = rows.subList(0, pageSize);
+        return new CursorPage<>(page, OrderCursor.after(page.get(pageSize - 1)).encode());
     }
 
     /**
-     * Gets order by id.
+     * Gets order by id, with its line items, read as a projection in a single query.
+     * Results are served from the orders cache when caching is enabled. Reads go to the
+     * read replica, except for orders this instance has just written (see {@link RecentOrderWrites}),
+     * so it does not read, and cache, a stale copy right after a write.
      *
      * @param id the id
      * @return the order by id
      */
-    public Order getOrderById(UUID id) {
-        return orderRepository.findById(id)
-                .filter(order -> order.getDeletedAt() == null)
+    @Timed(value = TIMER_NAME, extraTags = {"operation", "getById"})
+    @Cacheable(cacheNames = CacheConfig.ORDERS_CACHE, key = "#id")
+    @Transactional(readOnly = true)
+    public OrderResponse getOrderById(UUID id) {
+        return readYourWrites(id, () -> orderRepository.findResponseById(id))
                 .orElseThrow(() -> new EntityNotFoundException("Order not found with id: " + id));
     }
 
     /**
-     * Soft delete order order.
+     * Gets the requested fields of an order, selected by a projection query.
+     * Sparse reads bypass the orders cache, which holds full orders only.
+     *
+     * @param id     the id
+     * @param fields the fields to return, not empty
+     * @return the order reduced to the requested fields
+     * @throws EntityNotFoundException if the order does not exist or was deleted
+     */
+    @Timed(value = TIMER_NAME, extraTags = {"operation", "getFields"})
+    @Transactional(readOnly = true)
+    public PartialOrder getOrderById(UUID id, Set<OrderField> fields) {
+        List<PartialOrder> orders = readYourWrites(id,
+                () -> orderRepository.findPartial(isActive().and(hasId(id)), KEYSET_SORT, 1, fields));
+        if (orders.isEmpty()) {
+            throw new EntityNotFoundException("Order not found with id: " + id);
+        }
+        return orders.get(0);
+    }
+
+    /**
+     * Gets the current version of an order (see {@link OrderResponse#version()}) with a single
+     * primary key lookup. Neither the order nor its items are loaded, and the cache and the
+     * read replica are bypassed so the version is always the latest committed one.
      *
      * @param id the id
-     * @return the order
+     * @return the order version
+     * @throws EntityNotFoundException if the order does not exist or was deleted
+     */
+    @Timed(value = TIMER_NAME, extraTags = {"operation", "getVersion"})
+    public LocalDateTime getOrderVersion(UUID id) {
+        return ReplicaRouting.onPrimary(() -> orderRepository.findVersionById(id))
+                .orElseThrow(() -> new EntityNotFoundException("Order not found with id: " + id));
+    }
+
+    /**
+     * Soft deletes an order with a single UPDATE; neither the order nor its items are loaded.
+     * Only the deleted row's status and total are read back, for the live counters. A DELETED
+     * event is written to the outbox in the same transaction.
+     *
+     * @param id the id
+     * @throws EntityNotFoundException if the order does not exist or was already deleted
+     */
+    @Timed(value = TIMER_NAME, extraTags = {"operation", "softDelete"})
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ORDERS_CACHE, key = "#id")
+    public void softDeleteOrder(UUID id) {
+        // Truncated to what the column stores, so the outbox insert can match on it.
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        if (orderRepository.softDeleteById(id, now) == 0) {
+            throw new EntityNotFoundException("Order not found with id: " + id);
+        }
+        outboxRepository.insertDeleted(List.of(id), now);
+        orderRepository.findAmountById(id).ifPresent(orderCounters::recordDeleted);
+        recentOrderWrites.record(id);
+    }
+
+    /**
+     * Moves an order to a new status without loading it.
+     * <p>
+     * The allowed source statuses come from the {@link OrderStatus} state machine and are
+     * checked by the UPDATE itself (see {@link OrderRepository#updateStatus}). Passing
+     * {@code expectedStatus} narrows the check to that single status, which lets a worker
+     * act on the status it last read without overwriting a concurrent change. Each allowed
+     * source is tried in turn (at most two for CANCELLED), so the previous status is known to
+     * the live counters and the STATUS_CHANGED outbox event without reading it. The status is
+     * only read when no update matches, or when {@code expectedStatus} can never reach
+     * {@code status}, to tell a missing order from a conflict.
+     * </p>
+     *
+     * @param id             the order id
+     * @param status         the requested status
+     * @param expectedStatus the status the order must currently be in, or null for any allowed one
+     * @return the new status and update time
+     * @throws EntityNotFoundException           if the order does not exist or was deleted
+     * @throws InvalidStatusTransitionException if the order cannot move to the requested status
      */
+    @Timed(value = TIMER_NAME, extraTags = {"operation", "updateStatus"})
     @Transactional
-    public Order softDeleteOrder(UUID id) {
-        Order orderToDelete = getOrderById(id);
-        orderToDelete.setDeletedAt(LocalDateTime.now());
-        return orderRepository.save(orderToDelete);
+    @CacheEvict(cacheNames = CacheConfig.ORDERS_CACHE, key = "#id")
+    public OrderStatusResponse updateOrderStatus(UUID id, OrderStatus status, OrderStatus expectedStatus) {
+        Set<OrderStatus> from = status.sources();
+        if (expectedStatus != null) {
+            if (!expectedStatus.canTransitionTo(status)) {
+                // A missing order is still a 404, even for a transition that can never succeed.
+                orderRepository.findStatusById(id)
+                        .orElseThrow(() -> new EntityNotFoundException("Order not found with id: " + id));
+                throw new InvalidStatusTransitionException(
+                        "Cannot change order status from " + expectedStatus + " to " + status);
+            }
+            from = Set.of(expectedStatus);
+        }
+
+        // Timestamp columns keep microseconds; truncate so the response matches what is stored.
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        for (OrderStatus source : from) {
+            if (orderRepository.updateStatus(id, Set.of(source), status, now) == 1) {
+                outboxRepository.insertStatusChanged(id, source);
+                orderCounters.recordStatusChange(source, status);
+                recentOrderWrites.record(id);
+                return new OrderStatusResponse(id, status, now);
+            }
+        }
+
+        OrderStatus current = orderRepository.findStatusById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Order not found with id: " + id));
+        throw new InvalidStatusTransitionException(expectedStatus != null && expectedStatus != current
+                ? "Order " + id + " is " + current + ", expected " + expectedStatus
+                : "Cannot change order status from " + current + " to " + status);
+    }
+
+    // Reads an order from the primary when this instance wrote it recently, otherwise as usual.
+    private <T> T readYourWrites(UUID id, Supplier<T> read) {
+        return recentOrderWrites.contains(id) ? ReplicaRouting.onPrimary(read) : read.get();
+    }
+
+    private Order buildOrder(CreateOrderRequest request) {
+        Order newOrder = new Order();
+        newOrder.setCreatedBy(request.getCreatedBy());
+        newOrder.setStatus(OrderStatus.PENDING);
+        // Totals are accumulated in cents; see Money.
+        long finalTotalPrice = 0;
+
+        for (OrderLineItemRequest itemRequest : request.getItems()) {
+            OrderLineItem lineItem = new OrderLineItem();
+            lineItem.setProductId(itemRequest.getProductId());
+            lineItem.setProductName(itemRequest.getProductName());
+            lineItem.setQuantity(itemRequest.getQuantity());
+            lineItem.setPricePerUnit(itemRequest.getPricePerUnit());
+            long pricePerUnit = Money.toMinorUnits(itemRequest.getPricePerUnit(), "pricePerUnit");
+            long lineItemTotal = Money.multiply(pricePerUnit, itemRequest.getQuantity(), "line item total");
+            lineItem.setTotalPrice(Money.toBigDecimal(lineItemTotal));
+            finalTotalPrice = Money.add(finalTotalPrice, lineItemTotal, "order total");
+            newOrder.addOrderItem(lineItem);
+        }
+
+        newOrder.setTotalPrice(Money.toBigDecimal(finalTotalPrice));
+        return newOrder;
+    }
+
+    private List<String> validate(CreateOrderRequest request) {
+        if (request == null) {
+            return List.of("order cannot be null");
+        }
+        Set<ConstraintViolation<CreateOrderRequest>> violations = validator.validate(request);
+        List<String> errors = new ArrayList<>(violations.size());
+        for (ConstraintViolation<CreateOrderRequest> violation : violations) {
+            errors.add(violation.getMessage());
+        }
+        return errors;
+    }
+
+    private int resolvePageSize(Integer limit) {
+        OrdersProperties.Pagination pagination = properties.getPagination();
+        if (limit == null) {
+            return pagination.getDefaultPageSize();
+        }
+        if (limit < 1) {
+            throw new InvalidRequestException("limit must be greater than zero");
+        }
+        return Math.min(limit, pagination.getMaxPageSize());
+    }
+
+    private static Specification<Order> listSpecification(String cursor, OrderStatus status, UUID createdBy) {
+        Specification<Order> spec = isActive();
+        if (status != null) {
+            spec = spec.and(hasStatus(status));
+        }
+        if (createdBy != null) {
+            spec = spec.and(isCreatedBy(createdBy));
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            OrderCursor position = OrderCursor.decode(cursor);
+            spec = spec.and(isBefore(position.orderDate(), position.id()));
+        }
+        return spec;
     }
-}
\ No newline at end of file
+}
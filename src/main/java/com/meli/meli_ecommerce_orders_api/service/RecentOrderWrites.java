@@ -0,0 +1,87 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.meli.meli_ecommerce_orders_api.config.OrdersProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Orders this instance wrote in the last {@code orders.replica.read-your-writes-window}, so
+ * reading them back goes to the primary instead of a replica that may not have them yet.
+ * <p>
+ * A write is remembered from the moment its transaction commits. Ids are kept in a bounded
+ * Caffeine cache that forgets them when the window ends. Without a replica nothing is recorded.
+ * Writes made by other instances are not known here.
+ * </p>
+ */
+@Component
+public class RecentOrderWrites {
+
+    // Bounds memory under bursts; an id pushed out early is only read from the replica sooner.
+    private static final long MAX_TRACKED = 100_000;
+
+    private final Cache<UUID, Boolean> written;
+
+    /**
+     * Instantiates new Recent order writes.
+     *
+     * @param properties the orders configuration
+     */
+    public RecentOrderWrites(OrdersProperties properties) {
+        OrdersProperties.Replica replica = properties.getReplica();
+        this.written = replica.isEnabled()
+                ? Caffeine.newBuilder()
+                        .expireAfterWrite(replica.getReadYourWritesWindow())
+                        .maximumSize(MAX_TRACKED)
+                        .build()
+                : null;
+    }
+
+    /**
+     * Remembers a written order once the current transaction commits.
+     *
+     * @param id the order id
+     */
+    public void record(UUID id) {
+        if (written != null) {
+            afterCommit(() -> written.put(id, Boolean.TRUE));
+        }
+    }
+
+    /**
+     * Remembers written orders once the current transaction commits.
+     *
+     * @param ids the order ids
+     */
+    public void recordAll(Collection<UUID> ids) {
+        if (written != null) {
+            afterCommit(() -> ids.forEach(id -> written.put(id, Boolean.TRUE)));
+        }
+    }
+
+    /**
+     * @param id the order id
+     * @return whether the order was written within the window
+     */
+    public boolean contains(UUID id) {
+        return written != null && written.getIfPresent(id) != null;
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,27 @@
+-- Orders and their line items, matching the JPA mappings in the model package.
+-- IF NOT EXISTS lets databases created earlier by Hibernate (ddl-auto=update) adopt this
+-- migration unchanged; see spring.flyway.baseline-version.
+
+CREATE TABLE IF NOT EXISTS orders (
+    id                UUID           NOT NULL,
+    created_by        UUID           NOT NULL,
+    total_price       NUMERIC(10, 2) NOT NULL,
+    status            VARCHAR(255)   NOT NULL,
+    deleted_at        TIMESTAMP(6),
+    order_date        TIMESTAMP(6)   NOT NULL,
+    last_updated_date TIMESTAMP(6),
+    CONSTRAINT pk_orders PRIMARY KEY (id),
+    CONSTRAINT ck_orders_status CHECK (status IN ('PENDING', 'PROCESSING', 'SHIPPED', 'DELIVERED', 'CANCELLED'))
+);
+
+CREATE TABLE IF NOT EXISTS order_line_items (
+    id             UUID           NOT NULL,
+    order_id       UUID           NOT NULL,
+    product_id     UUID           NOT NULL,
+    product_name   VARCHAR(255)   NOT NULL,
+    quantity       INTEGER        NOT NULL,
+    price_per_unit NUMERIC(10, 2) NOT NULL,
+    total_price    NUMERIC(10, 2) NOT NULL,
+    CONSTRAINT pk_order_line_items PRIMARY KEY (id),
+    CONSTRAINT fk_order_line_items_order FOREIGN KEY (order_id) REFERENCES orders (id)
+);
@@ -0,0 +1,16 @@
+-- Transactional outbox: order lifecycle events are inserted in the same transaction as the
+-- order change and removed by the relay once published. Rows are claimed in id order, so
+-- the primary key is the only index the relay needs.
+
+CREATE TABLE IF NOT EXISTS order_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    event_type      VARCHAR(32)    NOT NULL,
+    order_id        UUID           NOT NULL,
+    created_by      UUID           NOT NULL,
+    status          VARCHAR(255)   NOT NULL,
+    previous_status VARCHAR(255),
+    total_price     NUMERIC(10, 2) NOT NULL,
+    occurred_at     TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_order_outbox PRIMARY KEY (id),
+    CONSTRAINT ck_order_outbox_event_type CHECK (event_type IN ('CREATED', 'STATUS_CHANGED', 'DELETED'))
+);
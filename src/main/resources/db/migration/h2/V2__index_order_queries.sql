@@ -0,0 +1,13 @@
+-- H2 counterpart of postgresql/V2__index_order_queries.sql.
+-- H2 has no partial indexes, so deleted_at is added right after the equality columns wherever
+-- the PostgreSQL index is partial: "deleted_at IS NULL" then narrows the scan the same way.
+-- H2 already indexes foreign key columns, so order_line_items.order_id needs no extra index.
+
+CREATE INDEX IF NOT EXISTS idx_orders_active_order_date
+    ON orders (deleted_at, order_date, id);
+
+CREATE INDEX IF NOT EXISTS idx_orders_created_by_order_date
+    ON orders (created_by, deleted_at, order_date);
+
+CREATE INDEX IF NOT EXISTS idx_orders_status_order_date
+    ON orders (status, deleted_at, order_date);
@@ -0,0 +1,5 @@
+-- H2 counterpart of postgresql/V3__index_customer_order_history.sql.
+CREATE INDEX IF NOT EXISTS idx_orders_created_by_order_date_id
+    ON orders (created_by, deleted_at, order_date, id);
+
+DROP INDEX IF EXISTS idx_orders_created_by_order_date;
@@ -0,0 +1,26 @@
+-- Indexes for the order queries in OrderRepository / OrderSpecifications.
+-- Listings, lookups by customer and status transitions only ever touch active orders, so the
+-- order indexes are partial (WHERE deleted_at IS NULL): soft-deleted rows never bloat them.
+-- B-tree indexes are scanned backwards for the "newest first" (order_date DESC) listings.
+-- Built CONCURRENTLY so writes to the existing tables continue during the build; that cannot run
+-- inside a transaction (see the .sql.conf next to this script). If a build fails, PostgreSQL leaves
+-- an INVALID index behind that IF NOT EXISTS would skip: drop it before running the migration again.
+
+-- GET /orders without filters: keyset pagination on (order_date, id).
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_active_order_date
+    ON orders (order_date, id)
+    WHERE deleted_at IS NULL;
+
+-- GET /orders?createdBy=... and bulk delete by customer and date range.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_created_by_order_date
+    ON orders (created_by, order_date)
+    WHERE deleted_at IS NULL;
+
+-- GET /orders?status=...
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_status_order_date
+    ON orders (status, order_date)
+    WHERE deleted_at IS NULL;
+
+-- Loading an order's items (entity graph, item counts) and the FK check on delete.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_order_line_items_order_id
+    ON order_line_items (order_id);
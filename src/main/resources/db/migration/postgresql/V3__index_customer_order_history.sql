@@ -0,0 +1,10 @@
+-- "My orders" pages read one customer's active orders newest first, paginated by the
+-- (order_date, id) keyset. With id in the index the whole page is one index range scan in
+-- sort order, without a sort step for orders sharing the same order_date.
+-- Built and dropped CONCURRENTLY, outside a transaction, like V2.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_created_by_order_date_id
+    ON orders (created_by, order_date, id)
+    WHERE deleted_at IS NULL;
+
+-- Superseded by the index above, which has the same leading columns.
+DROP INDEX CONCURRENTLY IF EXISTS idx_orders_created_by_order_date;
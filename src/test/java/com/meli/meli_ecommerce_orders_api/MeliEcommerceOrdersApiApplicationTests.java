@@ -1,13 +1,25 @@
 package com.meli.meli_ecommerce_orders_api;
 
+import com.meli.meli_ecommerce_orders_api.service.DatabaseHealthProbe;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 @SpringBootTest
 class MeliEcommerceOrdersApiApplicationTests {
 
+	@Autowired
+	private DatabaseHealthProbe databaseHealthProbe;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void databaseHealthProbe_IsCreatedByTheContextAndReachesTheDatabase() {
+		assertTrue(databaseHealthProbe.probe().connected());
+	}
+
 }
@@ -0,0 +1,50 @@
+package com.meli.meli_ecommerce_orders_api.config;
+
+import com.meli.meli_ecommerce_orders_api.dto.HealthResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderEvent;
+import com.meli.meli_ecommerce_orders_api.dto.OrderResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderSummary;
+import com.meli.meli_ecommerce_orders_api.model.AssignableUuidGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the types the native image reaches only by reflection are registered.
+ */
+class OrdersRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    OrdersRuntimeHintsTest() {
+        new OrdersRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registersJsonTypesAndTheirNestedTypes() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(OrderResponse.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(OrderEvent.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(HealthResponse.DatabaseStatus.class).test(hints));
+    }
+
+    @Test
+    void registersReflectivelyConstructedTypes() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(OrderSummary.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(AssignableUuidGenerator.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS).test(hints));
+    }
+
+    @Test
+    void registersFlywayMigrations() {
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("db/migration/postgresql/V2__index_order_queries.sql").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("db/migration/common/V1__create_orders_tables.sql").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("db/migration/postgresql/V2__index_order_queries.sql.conf").test(hints));
+    }
+}
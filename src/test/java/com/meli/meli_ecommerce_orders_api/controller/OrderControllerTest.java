@@ -1,10 +1,34 @@
 package com.meli.meli_ecommerce_orders_api.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meli.meli_ecommerce_orders_api.config.JacksonConfig;
+import com.meli.meli_ecommerce_orders_api.config.WebConfig;
+import com.meli.meli_ecommerce_orders_api.dto.ApiResponse;
+import com.meli.meli_ecommerce_orders_api.dto.BatchCreateOrderRequest;
+import com.meli.meli_ecommerce_orders_api.dto.BatchCreateOrderResponse;
+import com.meli.meli_ecommerce_orders_api.dto.BulkDeleteOrdersResponse;
 import com.meli.meli_ecommerce_orders_api.dto.CreateOrderRequest;
+import com.meli.meli_ecommerce_orders_api.dto.CursorPage;
+import com.meli.meli_ecommerce_orders_api.dto.OrderAggregate;
+import com.meli.meli_ecommerce_orders_api.dto.OrderAnalyticsGroupBy;
+import com.meli.meli_ecommerce_orders_api.dto.OrderAnalyticsResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderField;
 import com.meli.meli_ecommerce_orders_api.dto.OrderLineItemRequest;
+import com.meli.meli_ecommerce_orders_api.dto.OrderResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderStatusResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderSummary;
+import com.meli.meli_ecommerce_orders_api.dto.PartialOrder;
+import com.meli.meli_ecommerce_orders_api.exceptions.IngestionUnavailableException;
+import com.meli.meli_ecommerce_orders_api.exceptions.InvalidCursorException;
+import com.meli.meli_ecommerce_orders_api.exceptions.InvalidStatusTransitionException;
 import com.meli.meli_ecommerce_orders_api.exceptions.OrderNotFoundException;
-import com.meli.meli_ecommerce_orders_api.model.Order;
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+import com.meli.meli_ecommerce_orders_api.service.OrderAnalyticsService;
+import com.meli.meli_ecommerce_orders_api.service.OrderBulkDeleteService;
+import com.meli.meli_ecommerce_orders_api.service.OrderCounters;
+import com.meli.meli_ecommerce_orders_api.service.OrderExportService;
+import com.meli.meli_ecommerce_orders_api.service.OrderIngestionQueue;
 import com.meli.meli_ecommerce_orders_api.service.OrderService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,26 +37,43 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
- * Integration test for the OrderController web layer.
+ * Integration test for the order controllers' web layer.
  * Loads only the web layer and mocks the service layer.
  */
-@WebMvcTest(OrderController.class)
+@WebMvcTest(controllers = {OrderController.class, CustomerOrderController.class, OrderAnalyticsController.class,
+        OrderIngestionController.class}, properties = "orders.ingestion.enabled=true")
+@Import({JacksonConfig.class, WebConfig.class})
 class OrderControllerTest {
 
     @TestConfiguration
@@ -41,17 +82,52 @@ class OrderControllerTest {
         public OrderService orderService() {
             return Mockito.mock(OrderService.class);
         }
+
+        @Bean
+        public OrderExportService orderExportService() {
+            return Mockito.mock(OrderExportService.class);
+        }
+
+        @Bean
+        public OrderBulkDeleteService orderBulkDeleteService() {
+            return Mockito.mock(OrderBulkDeleteService.class);
+        }
+
+        @Bean
+        public OrderAnalyticsService orderAnalyticsService() {
+            return Mockito.mock(OrderAnalyticsService.class);
+        }
+
+        @Bean
+        public OrderCounters orderCounters() {
+            return Mockito.mock(OrderCounters.class);
+        }
+
+        @Bean
+        public OrderIngestionQueue orderIngestionQueue() {
+            return Mockito.mock(OrderIngestionQueue.class);
+        }
     }
 
     private final MockMvc mockMvc;
     private final ObjectMapper objectMapper;
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
+    private final OrderBulkDeleteService orderBulkDeleteService;
+    private final OrderAnalyticsService orderAnalyticsService;
+    private final OrderIngestionQueue orderIngestionQueue;
 
     @Autowired
-    OrderControllerTest(MockMvc mockMvc, ObjectMapper objectMapper, OrderService orderService) {
+    OrderControllerTest(MockMvc mockMvc, ObjectMapper objectMapper, OrderService orderService,
+                        OrderExportService orderExportService, OrderBulkDeleteService orderBulkDeleteService,
+                        OrderAnalyticsService orderAnalyticsService, OrderIngestionQueue orderIngestionQueue) {
         this.mockMvc = mockMvc;
         this.objectMapper = objectMapper;
         this.orderService = orderService;
+        this.orderExportService = orderExportService;
+        this.orderBulkDeleteService = orderBulkDeleteService;
+        this.orderAnalyticsService = orderAnalyticsService;
+        this.orderIngestionQueue = orderIngestionQueue;
     }
 
     private CreateOrderRequest validRequest;
@@ -71,8 +147,7 @@ class OrderControllerTest {
 
     @Test
     void testCreateOrder_Success() throws Exception {
-        Order createdOrder = new Order();
-        createdOrder.setId(UUID.randomUUID());
+        OrderResponse createdOrder = newOrderResponse(UUID.randomUUID(), null);
         when(orderService.createOrder(any(CreateOrderRequest.class))).thenReturn(createdOrder);
 
         mockMvc.perform(post("/api/v1/orders")
@@ -93,39 +168,341 @@ class OrderControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void testCreateOrders_AllCreated() throws Exception {
+        when(orderService.createOrders(anyList())).thenReturn(new BatchCreateOrderResponse(List.of(
+                BatchCreateOrderResponse.Result.created(0, UUID.randomUUID()),
+                BatchCreateOrderResponse.Result.created(1, UUID.randomUUID()))));
+
+        mockMvc.perform(post("/api/v1/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchOf(validRequest, validRequest))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.created", is(2)))
+                .andExpect(jsonPath("$.data.results", hasSize(2)));
+    }
+
+    @Test
+    void testCreateOrders_PartialSuccess() throws Exception {
+        when(orderService.createOrders(anyList())).thenReturn(new BatchCreateOrderResponse(List.of(
+                BatchCreateOrderResponse.Result.created(0, UUID.randomUUID()),
+                BatchCreateOrderResponse.Result.rejected(1, List.of("createdBy cannot be null")))));
+
+        mockMvc.perform(post("/api/v1/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchOf(validRequest, new CreateOrderRequest()))))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.data.failed", is(1)))
+                .andExpect(jsonPath("$.data.results[1].errors[0]", is("createdBy cannot be null")));
+    }
+
+    @Test
+    void testCreateOrders_EmptyBatch() throws Exception {
+        mockMvc.perform(post("/api/v1/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchOf())))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testGetAllOrders_Success() throws Exception {
-        Order order = new Order();
-        order.setId(UUID.randomUUID());
-        when(orderService.getAllActiveOrders()).thenReturn(List.of(order));
+        OrderSummary order = new OrderSummary(UUID.randomUUID(), UUID.randomUUID(), OrderStatus.PENDING,
+                BigDecimal.TEN, LocalDateTime.now(), 3);
+        when(orderService.getActiveOrders(null, null, null, null))
+                .thenReturn(new CursorPage<>(List.of(order), "next-cursor"));
 
         mockMvc.perform(get("/api/v1/orders"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(1)))
-                .andExpect(jsonPath("$[0].id", is(order.getId().toString())));
+                .andExpect(jsonPath("$.data.items", hasSize(1)))
+                .andExpect(jsonPath("$.data.items[0].id", is(order.getId().toString())))
+                .andExpect(jsonPath("$.data.items[0].itemCount", is(3)))
+                .andExpect(jsonPath("$.data.items[0].orderItems").doesNotExist())
+                .andExpect(jsonPath("$.data.next", is("next-cursor")));
     }
 
     @Test
     void testGetAllOrders_EmptyList() throws Exception {
-        when(orderService.getAllActiveOrders()).thenReturn(Collections.emptyList());
+        when(orderService.getActiveOrders(null, null, null, null))
+                .thenReturn(new CursorPage<>(Collections.emptyList(), null));
 
         mockMvc.perform(get("/api/v1/orders"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(0)));
+                .andExpect(jsonPath("$.data.items", hasSize(0)))
+                .andExpect(jsonPath("$.data.next").doesNotExist());
+    }
+
+    @Test
+    void testGetAllOrders_WithCursorAndFilters() throws Exception {
+        UUID createdBy = UUID.randomUUID();
+        when(orderService.getActiveOrders("abc", 10, OrderStatus.SHIPPED, createdBy))
+                .thenReturn(new CursorPage<>(Collections.emptyList(), null));
+
+        mockMvc.perform(get("/api/v1/orders")
+                        .param("cursor", "abc")
+                        .param("limit", "10")
+                        .param("status", "SHIPPED")
+                        .param("createdBy", createdBy.toString()))
+                .andExpect(status().isOk());
+
+        verify(orderService).getActiveOrders("abc", 10, OrderStatus.SHIPPED, createdBy);
+    }
+
+    @Test
+    void testGetAllOrders_InvalidCursor() throws Exception {
+        when(orderService.getActiveOrders("bad", null, null, null))
+                .thenThrow(new InvalidCursorException("bad", null));
+
+        mockMvc.perform(get("/api/v1/orders").param("cursor", "bad"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetAllOrders_UnexpectedIllegalArgument_IsServerError() throws Exception {
+        when(orderService.getActiveOrders(null, null, null, null))
+                .thenThrow(new IllegalArgumentException("bug"));
+
+        mockMvc.perform(get("/api/v1/orders"))
+                .andExpect(status().isInternalServerError());
+    }
+
+    @Test
+    void testGetAllOrders_Fields_ReturnsOnlyRequestedFields() throws Exception {
+        UUID id = UUID.randomUUID();
+        Set<OrderField> fields = EnumSet.of(OrderField.ID, OrderField.STATUS, OrderField.TOTAL_PRICE);
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("id", id);
+        values.put("status", OrderStatus.PENDING);
+        values.put("totalPrice", BigDecimal.TEN);
+        when(orderService.getActiveOrders(null, null, null, null, fields))
+                .thenReturn(new CursorPage<>(List.of(new PartialOrder(id, LocalDateTime.now(), null, values)), null));
+
+        mockMvc.perform(get("/api/v1/orders").param("fields", "id, status,totalPrice"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].id", is(id.toString())))
+                .andExpect(jsonPath("$.data.items[0].status", is("PENDING")))
+                .andExpect(jsonPath("$.data.items[0].totalPrice", is(10)))
+                .andExpect(jsonPath("$.data.items[0].orderDate").doesNotExist())
+                .andExpect(jsonPath("$.data.items[0].itemCount").doesNotExist());
+        verify(orderService).getActiveOrders(null, null, null, null, fields);
+    }
+
+    @Test
+    void testGetAllOrders_UnknownField_BadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/orders").param("fields", "id,password"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetCustomerOrders_FiltersByCustomer() throws Exception {
+        UUID customerId = UUID.randomUUID();
+        OrderSummary order = new OrderSummary(UUID.randomUUID(), customerId, OrderStatus.PENDING,
+                BigDecimal.TEN, LocalDateTime.now(), 1);
+        when(orderService.getActiveOrders("abc", 10, OrderStatus.PENDING, customerId))
+                .thenReturn(new CursorPage<>(List.of(order), "next-cursor"));
+
+        mockMvc.perform(get("/api/v1/customers/{customerId}/orders", customerId)
+                        .param("cursor", "abc")
+                        .param("limit", "10")
+                        .param("status", "PENDING"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items", hasSize(1)))
+                .andExpect(jsonPath("$.data.items[0].createdBy", is(customerId.toString())))
+                .andExpect(jsonPath("$.data.next", is("next-cursor")));
+
+        verify(orderService).getActiveOrders("abc", 10, OrderStatus.PENDING, customerId);
+    }
+
+    @Test
+    void testGetCustomerOrders_InvalidCustomerId() throws Exception {
+        mockMvc.perform(get("/api/v1/customers/{customerId}/orders", "not-a-uuid"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetAnalytics_ByDay() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2025, 10, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 10, 2, 0, 0);
+        OrderAnalyticsResponse analytics = new OrderAnalyticsResponse(OrderAnalyticsGroupBy.DAY, from, to,
+                List.of(new OrderAggregate(from.toString(), 3, new BigDecimal("30.00"))), false);
+        when(orderAnalyticsService.getAnalytics(OrderAnalyticsGroupBy.DAY, from, to, OrderStatus.DELIVERED, null, null))
+                .thenReturn(analytics);
+
+        mockMvc.perform(get("/api/v1/orders/analytics")
+                        .param("groupBy", "DAY")
+                        .param("from", "2025-10-01T00:00:00")
+                        .param("to", "2025-10-02T00:00:00")
+                        .param("status", "DELIVERED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.groups", hasSize(1)))
+                .andExpect(jsonPath("$.data.groups[0].orderCount", is(3)))
+                .andExpect(jsonPath("$.data.truncated", is(false)));
+    }
+
+    @Test
+    void testGetAnalytics_InvalidGroupBy() throws Exception {
+        mockMvc.perform(get("/api/v1/orders/analytics").param("groupBy", "YEAR"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testGetAllOrders_InvalidStatus() throws Exception {
+        mockMvc.perform(get("/api/v1/orders").param("status", "UNKNOWN"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testExportOrders_StreamsNdjson() throws Exception {
+        when(orderExportService.exportOrders(any())).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("{\"id\":\"1\"}\n{\"id\":\"2\"}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        });
+
+        MvcResult result = mockMvc.perform(get("/api/v1/orders/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":\"1\"}\n{\"id\":\"2\"}\n"));
     }
 
     @Test
     void testGetOrderById_Success() throws Exception {
         UUID id = UUID.randomUUID();
-        Order order = new Order();
-        order.setId(id);
-        when(orderService.getOrderById(id)).thenReturn(order);
+        when(orderService.getOrderById(id)).thenReturn(newOrderResponse(id, null));
 
         mockMvc.perform(get("/api/v1/orders/{id}", id))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id", is(id.toString())));
     }
 
+    @Test
+    void testGetOrderById_ReturnsETag() throws Exception {
+        UUID id = UUID.randomUUID();
+        OrderResponse order = newOrderResponse(id, LocalDateTime.of(2025, 10, 16, 19, 10, 0, 123456000));
+        when(orderService.getOrderById(id)).thenReturn(order);
+
+        mockMvc.perform(get("/api/v1/orders/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"6414b5d12b440\""))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(jsonPath("$.data.id", is(id.toString())))
+                .andExpect(jsonPath("$.data.version").doesNotExist());
+        verify(orderService, never()).getOrderVersion(id);
+    }
+
+    @Test
+    void testGetOrderById_IfNoneMatch_NotModifiedWithoutLoadingOrder() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(orderService.getOrderVersion(id)).thenReturn(LocalDateTime.of(2025, 10, 16, 19, 10, 0, 123456000));
+
+        mockMvc.perform(get("/api/v1/orders/{id}", id).header("If-None-Match", "\"6414b5d12b440\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"6414b5d12b440\""))
+                .andExpect(content().string(""));
+        verify(orderService, never()).getOrderById(id);
+    }
+
+    @Test
+    void testGetOrderById_IfNoneMatch_ChangedOrderIsReturned() throws Exception {
+        UUID id = UUID.randomUUID();
+        OrderResponse order = newOrderResponse(id, LocalDateTime.of(2025, 10, 16, 19, 11));
+        when(orderService.getOrderVersion(id)).thenReturn(order.lastUpdatedDate());
+        when(orderService.getOrderById(id)).thenReturn(order);
+
+        mockMvc.perform(get("/api/v1/orders/{id}", id).header("If-None-Match", "\"6414b5d12b440\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id", is(id.toString())));
+    }
+
+    @Test
+    void testGetOrderById_Fields_TagIdentifiesFieldSet() throws Exception {
+        UUID id = UUID.randomUUID();
+        Set<OrderField> fields = EnumSet.of(OrderField.ID, OrderField.STATUS);
+        PartialOrder order = new PartialOrder(id, LocalDateTime.of(2025, 10, 16, 19, 10, 0, 123456000), null,
+                Map.of("id", id, "status", OrderStatus.PENDING));
+        when(orderService.getOrderById(id, fields)).thenReturn(order);
+
+        mockMvc.perform(get("/api/v1/orders/{id}", id).param("fields", "status,id"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"6414b5d12b440-5\""))
+                .andExpect(jsonPath("$.data.status", is("PENDING")))
+                .andExpect(jsonPath("$.data.totalPrice").doesNotExist());
+        verify(orderService, never()).getOrderById(id);
+    }
+
+    @Test
+    void testGetOrderById_JsonAndCbor_DistinctETagsVaryingOnAccept() throws Exception {
+        UUID id = UUID.randomUUID();
+        LocalDateTime version = LocalDateTime.of(2025, 10, 16, 19, 10, 0, 123456000);
+        when(orderService.getOrderById(id)).thenReturn(newOrderResponse(id, version));
+        when(orderService.getOrderVersion(id)).thenReturn(version);
+
+        String jsonTag = mockMvc.perform(get("/api/v1/orders/{id}", id).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues("Vary", hasItem("Accept")))
+                .andReturn().getResponse().getHeader("ETag");
+        String cborTag = mockMvc.perform(get("/api/v1/orders/{id}", id).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().stringValues("Vary", hasItem("Accept")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        assertEquals("\"6414b5d12b440\"", jsonTag);
+        assertEquals("\"6414b5d12b440-cbor\"", cborTag);
+        assertNotEquals(jsonTag, cborTag);
+
+        // A tag obtained as JSON does not validate the CBOR representation, and vice versa.
+        mockMvc.perform(get("/api/v1/orders/{id}", id).accept(MediaType.APPLICATION_CBOR).header("If-None-Match", jsonTag))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+        mockMvc.perform(get("/api/v1/orders/{id}", id).accept(MediaType.APPLICATION_CBOR).header("If-None-Match", cborTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", cborTag))
+                .andExpect(header().stringValues("Vary", hasItem("Accept")));
+    }
+
+    @Test
+    void testGetOrderById_Cbor_WhenAccepted() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(orderService.getOrderById(id)).thenReturn(newOrderResponse(id, null));
+
+        byte[] body = mockMvc.perform(get("/api/v1/orders/{id}", id).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+        ApiResponse<OrderResponse> response = cborMapper.readValue(body, new TypeReference<>() {});
+        assertEquals(id, response.getData().id());
+        // Same settings as the JSON mapper: ISO dates, not timestamps. UUIDs are written as 16 raw bytes.
+        assertEquals("2025-10-16T19:00:00", cborMapper.readTree(body).at("/data/orderDate").asText());
+
+        mockMvc.perform(get("/api/v1/orders/{id}", id).accept(MediaType.ALL))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void testCreateOrder_SmileRequestAndResponse() throws Exception {
+        UUID id = UUID.randomUUID();
+        MediaType smile = new MediaType("application", "x-jackson-smile");
+        when(orderService.createOrder(any(CreateOrderRequest.class))).thenReturn(newOrderResponse(id, null));
+        ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+
+        byte[] body = mockMvc.perform(post("/api/v1/orders")
+                        .contentType(smile)
+                        .accept(smile)
+                        .content(smileMapper.writeValueAsBytes(validRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(smile))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        ApiResponse<OrderResponse> response = smileMapper.readValue(body, new TypeReference<>() {});
+        assertEquals(id, response.getData().id());
+    }
+
     @Test
     void testGetOrderById_NotFound() throws Exception {
         UUID id = UUID.randomUUID();
@@ -135,6 +512,41 @@ class OrderControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void testUpdateOrderStatus_Success() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(orderService.updateOrderStatus(id, OrderStatus.SHIPPED, OrderStatus.PROCESSING))
+                .thenReturn(new OrderStatusResponse(id, OrderStatus.SHIPPED, LocalDateTime.now()));
+
+        mockMvc.perform(patch("/api/v1/orders/{id}/status", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"SHIPPED\",\"expectedStatus\":\"PROCESSING\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id", is(id.toString())))
+                .andExpect(jsonPath("$.data.status", is("SHIPPED")));
+    }
+
+    @Test
+    void testUpdateOrderStatus_Conflict() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(orderService.updateOrderStatus(id, OrderStatus.PENDING, null))
+                .thenThrow(new InvalidStatusTransitionException("Cannot change order status from SHIPPED to PENDING"));
+
+        mockMvc.perform(patch("/api/v1/orders/{id}/status", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"PENDING\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success", is(false)));
+    }
+
+    @Test
+    void testUpdateOrderStatus_UnknownStatus() throws Exception {
+        mockMvc.perform(patch("/api/v1/orders/{id}/status", UUID.randomUUID())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"LOST\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testDeleteOrder_Success() throws Exception {
         UUID id = UUID.randomUUID();
@@ -161,4 +573,83 @@ class OrderControllerTest {
 
         verify(orderService, times(1)).softDeleteOrder(id);
     }
+
+    @Test
+    void testBulkDeleteOrders_ByIds() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(orderBulkDeleteService.deleteByIds(List.of(id))).thenReturn(new BulkDeleteOrdersResponse(1, 1));
+
+        mockMvc.perform(post("/api/v1/orders/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[\"" + id + "\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.deleted", is(1)));
+    }
+
+    @Test
+    void testBulkDeleteOrders_IdsAndCustomer_BadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/orders/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[\"" + UUID.randomUUID() + "\"],\"createdBy\":\"" + UUID.randomUUID() + "\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testIngestOrder_RespondsOnceCommitted() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(orderIngestionQueue.submit(any(CreateOrderRequest.class))).thenReturn(
+                new OrderIngestionQueue.Submission(id, CompletableFuture.completedFuture(newOrderResponse(id, null))));
+
+        MvcResult result = mockMvc.perform(post("/api/v1/orders/ingest")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.id", is(id.toString())));
+    }
+
+    @Test
+    void testIngestOrder_RespondAsync_Accepted() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(orderIngestionQueue.submit(any(CreateOrderRequest.class)))
+                .thenReturn(new OrderIngestionQueue.Submission(id, new CompletableFuture<>()));
+
+        MvcResult result = mockMvc.perform(post("/api/v1/orders/ingest")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRequest)))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v1/orders/" + id))
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(jsonPath("$.data.id", is(id.toString())));
+    }
+
+    @Test
+    void testIngestOrder_QueueFull_ServiceUnavailable() throws Exception {
+        when(orderIngestionQueue.submit(any(CreateOrderRequest.class)))
+                .thenThrow(new IngestionUnavailableException("Order ingestion queue is full, retry later"));
+
+        mockMvc.perform(post("/api/v1/orders/ingest")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRequest)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    private static BatchCreateOrderRequest batchOf(CreateOrderRequest... orders) {
+        BatchCreateOrderRequest batch = new BatchCreateOrderRequest();
+        batch.setOrders(List.of(orders));
+        return batch;
+    }
+
+    private static OrderResponse newOrderResponse(UUID id, LocalDateTime lastUpdatedDate) {
+        return new OrderResponse(id, UUID.randomUUID(), List.of(), BigDecimal.TEN, OrderStatus.PENDING, null,
+                LocalDateTime.of(2025, 10, 16, 19, 0), lastUpdatedDate);
+    }
 }
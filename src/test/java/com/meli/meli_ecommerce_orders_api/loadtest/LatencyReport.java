@@ -0,0 +1,103 @@
+package com.meli.meli_ecommerce_orders_api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms (microseconds) and error counts for one load test run.
+ */
+class LatencyReport {
+
+    // Track up to 60 s with 3 significant digits.
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final Map<LoadProfile.Endpoint, Histogram> histograms = new EnumMap<>(LoadProfile.Endpoint.class);
+    private final Map<LoadProfile.Endpoint, LongAdder> errors = new EnumMap<>(LoadProfile.Endpoint.class);
+
+    LatencyReport() {
+        for (LoadProfile.Endpoint endpoint : LoadProfile.Endpoint.values()) {
+            histograms.put(endpoint, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    void record(LoadProfile.Endpoint endpoint, long latencyNanos, boolean success) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        histograms.get(endpoint).recordValue(Math.max(micros, 1));
+        if (!success) {
+            errors.get(endpoint).increment();
+        }
+    }
+
+    long totalRequests() {
+        return histograms.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Writes one HdrHistogram percentile distribution per endpoint ({@code <endpoint>.hgrm},
+     * values in milliseconds) and a {@code summary.json} with throughput and percentiles.
+     *
+     * @param profile        the settings of the run
+     * @param measuredMillis the length of the measurement window
+     * @return the summary that was written
+     * @throws IOException if a report file cannot be written
+     */
+    Map<String, Object> write(LoadProfile profile, long measuredMillis) throws IOException {
+        Path dir = Path.of(profile.reportDir());
+        Files.createDirectories(dir);
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (Map.Entry<LoadProfile.Endpoint, Histogram> entry : histograms.entrySet()) {
+            String name = entry.getKey().name().toLowerCase();
+            Histogram histogram = entry.getValue();
+            try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve(name + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("requests", histogram.getTotalCount());
+            stats.put("errors", errors.get(entry.getKey()).sum());
+            stats.put("throughputPerSecond", histogram.getTotalCount() * 1000.0 / measuredMillis);
+            stats.put("p50Ms", percentileMillis(histogram, 50));
+            stats.put("p95Ms", percentileMillis(histogram, 95));
+            stats.put("p99Ms", percentileMillis(histogram, 99));
+            stats.put("p999Ms", percentileMillis(histogram, 99.9));
+            stats.put("maxMs", histogram.getMaxValue() / 1000.0);
+            endpoints.put(name, stats);
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("mode", profile.mode().name().toLowerCase());
+        summary.put("concurrency", profile.mode() == LoadProfile.Mode.CLOSED ? profile.concurrency() : null);
+        summary.put("targetRatePerSecond", profile.mode() == LoadProfile.Mode.OPEN ? profile.ratePerSecond() : null);
+        summary.put("durationSeconds", measuredMillis / 1000.0);
+        summary.put("totalRequests", totalRequests());
+        summary.put("totalErrors", totalErrors());
+        summary.put("throughputPerSecond", totalRequests() * 1000.0 / measuredMillis);
+        summary.put("endpoints", endpoints);
+
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(dir.resolve("summary.json").toFile(), summary);
+        return summary;
+    }
+
+    private static double percentileMillis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,235 @@
+package com.meli.meli_ecommerce_orders_api.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Drives a weighted mix of create / get-by-id / list / delete requests against the orders API.
+ * <p>
+ * In {@link LoadProfile.Mode#CLOSED closed} mode a fixed number of workers send requests back to
+ * back. In {@link LoadProfile.Mode#OPEN open} mode requests are started on a fixed schedule and
+ * latency is measured from the <em>intended</em> start time, so a slow server shows up as higher
+ * latency instead of silently lowering the request rate (coordinated omission).
+ * </p>
+ */
+class LoadGenerator {
+
+    private static final int ID_POOL_SIZE = 4096;
+    private static final Pattern ID_PATTERN = Pattern.compile("\"data\":\\{\"id\":\"([0-9a-f-]{36})\"");
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final URI ordersUri;
+    private final LoadProfile profile;
+    private final LoadProfile.Endpoint[] weightedEndpoints;
+
+    // Ring of ids of orders created during the run, shared by get and delete requests.
+    private final AtomicReferenceArray<UUID> knownIds = new AtomicReferenceArray<>(ID_POOL_SIZE);
+    private final AtomicLong nextSlot = new AtomicLong();
+
+    LoadGenerator(URI baseUri, LoadProfile profile) {
+        this.ordersUri = baseUri.resolve("/api/v1/orders");
+        this.profile = profile;
+        this.weightedEndpoints = expand(profile.mix());
+    }
+
+    /**
+     * Creates orders up front so get and delete requests have something to work on.
+     *
+     * @param count the number of orders to create
+     */
+    void seed(int count) {
+        for (int i = 0; i < count; i++) {
+            execute(LoadProfile.Endpoint.CREATE);
+        }
+    }
+
+    /**
+     * Runs the warm-up, whose results are discarded, then the measured run.
+     *
+     * @return the latencies of the measured run
+     * @throws InterruptedException if interrupted while waiting for requests to finish
+     */
+    LatencyReport run() throws InterruptedException {
+        runFor(profile.warmup(), new LatencyReport());
+        LatencyReport report = new LatencyReport();
+        runFor(profile.duration(), report);
+        return report;
+    }
+
+    private void runFor(Duration duration, LatencyReport report) throws InterruptedException {
+        if (duration.isZero()) {
+            return;
+        }
+        if (profile.mode() == LoadProfile.Mode.CLOSED) {
+            runClosed(duration, report);
+        } else {
+            runOpen(duration, report);
+        }
+    }
+
+    private void runClosed(Duration duration, LatencyReport report) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Thread> workers = new ArrayList<>(profile.concurrency());
+        for (int i = 0; i < profile.concurrency(); i++) {
+            Thread worker = new Thread(() -> {
+                while (System.nanoTime() < deadline) {
+                    LoadProfile.Endpoint endpoint = pickEndpoint();
+                    long start = System.nanoTime();
+                    Outcome outcome = execute(endpoint);
+                    report.record(outcome.endpoint(), System.nanoTime() - start, outcome.success());
+                }
+            }, "load-worker-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+
+    private void runOpen(Duration duration, LatencyReport report) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / profile.ratePerSecond();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            for (long i = 0; ; i++) {
+                long intendedStart = start + i * intervalNanos;
+                if (intendedStart >= deadline) {
+                    break;
+                }
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                executor.execute(() -> {
+                    Outcome outcome = execute(pickEndpoint());
+                    report.record(outcome.endpoint(), System.nanoTime() - intendedStart, outcome.success());
+                });
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private Outcome execute(LoadProfile.Endpoint endpoint) {
+        try {
+            switch (endpoint) {
+                case CREATE -> {
+                    HttpResponse<String> response = send(HttpRequest.newBuilder(ordersUri)
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(createOrderBody())));
+                    Matcher matcher = ID_PATTERN.matcher(response.body());
+                    if (matcher.find()) {
+                        remember(UUID.fromString(matcher.group(1)));
+                    }
+                    return new Outcome(endpoint, isSuccess(response));
+                }
+                case GET -> {
+                    UUID id = peekId();
+                    if (id == null) {
+                        return execute(LoadProfile.Endpoint.LIST);
+                    }
+                    return new Outcome(endpoint, isSuccess(send(HttpRequest.newBuilder(ordersUri.resolve("orders/" + id)).GET())));
+                }
+                case LIST -> {
+                    return new Outcome(endpoint, isSuccess(send(HttpRequest.newBuilder(URI.create(ordersUri + "?limit=20")).GET())));
+                }
+                case DELETE -> {
+                    UUID id = takeId();
+                    if (id == null) {
+                        return execute(LoadProfile.Endpoint.CREATE);
+                    }
+                    return new Outcome(endpoint, isSuccess(send(HttpRequest.newBuilder(ordersUri.resolve("orders/" + id)).DELETE())));
+                }
+                default -> throw new IllegalStateException("Unknown endpoint " + endpoint);
+            }
+        } catch (IOException e) {
+            return new Outcome(endpoint, false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Outcome(endpoint, false);
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return client.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static boolean isSuccess(HttpResponse<?> response) {
+        return response.statusCode() / 100 == 2;
+    }
+
+    private static String createOrderBody() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder body = new StringBuilder("{\"createdBy\":\"").append(UUID.randomUUID()).append("\",\"items\":[");
+        int items = 1 + random.nextInt(3);
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"productId\":\"").append(UUID.randomUUID())
+                    .append("\",\"productName\":\"Load test product ").append(i)
+                    .append("\",\"quantity\":").append(1 + random.nextInt(5))
+                    .append(",\"pricePerUnit\":").append(1 + random.nextInt(1000)).append(".99}");
+        }
+        return body.append("]}").toString();
+    }
+
+    private void remember(UUID id) {
+        knownIds.set((int) (nextSlot.getAndIncrement() % ID_POOL_SIZE), id);
+    }
+
+    private UUID peekId() {
+        return knownIds.get(randomSlot());
+    }
+
+    private UUID takeId() {
+        return knownIds.getAndSet(randomSlot(), null);
+    }
+
+    private int randomSlot() {
+        int filled = (int) Math.min(nextSlot.get(), ID_POOL_SIZE);
+        return filled == 0 ? 0 : ThreadLocalRandom.current().nextInt(filled);
+    }
+
+    private LoadProfile.Endpoint pickEndpoint() {
+        return weightedEndpoints[ThreadLocalRandom.current().nextInt(weightedEndpoints.length)];
+    }
+
+    private static LoadProfile.Endpoint[] expand(Map<LoadProfile.Endpoint, Integer> mix) {
+        List<LoadProfile.Endpoint> expanded = new ArrayList<>();
+        mix.forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                expanded.add(endpoint);
+            }
+        });
+        if (expanded.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix must give at least one endpoint a positive weight");
+        }
+        return expanded.toArray(LoadProfile.Endpoint[]::new);
+    }
+
+    private record Outcome(LoadProfile.Endpoint endpoint, boolean success) {}
+}
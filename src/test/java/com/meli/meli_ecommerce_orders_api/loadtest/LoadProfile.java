@@ -0,0 +1,47 @@
+package com.meli.meli_ecommerce_orders_api.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code -Dloadtest.*} system properties.
+ *
+ * <ul>
+ *   <li>{@code loadtest.mode} – {@code closed} (fixed concurrency, default) or {@code open} (fixed arrival rate)</li>
+ *   <li>{@code loadtest.concurrency} – workers in closed mode (default 32)</li>
+ *   <li>{@code loadtest.rate} – requests per second in open mode (default 500)</li>
+ *   <li>{@code loadtest.duration} / {@code loadtest.warmup} – seconds measured / discarded (default 30 / 5)</li>
+ *   <li>{@code loadtest.mix} – relative weights, e.g. {@code create:20,get:60,list:15,delete:5}</li>
+ *   <li>{@code loadtest.seedOrders} – orders created before the run so reads have data (default 500)</li>
+ *   <li>{@code loadtest.reportDir} – where the .hgrm files and summary.json go (default target/loadtest)</li>
+ * </ul>
+ */
+record LoadProfile(Mode mode, int concurrency, int ratePerSecond, Duration duration, Duration warmup,
+                   Map<Endpoint, Integer> mix, int seedOrders, String reportDir) {
+
+    enum Mode { CLOSED, OPEN }
+
+    enum Endpoint { CREATE, GET, LIST, DELETE }
+
+    static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                Mode.valueOf(System.getProperty("loadtest.mode", "closed").toUpperCase()),
+                Integer.getInteger("loadtest.concurrency", 32),
+                Integer.getInteger("loadtest.rate", 500),
+                Duration.ofSeconds(Integer.getInteger("loadtest.duration", 30)),
+                Duration.ofSeconds(Integer.getInteger("loadtest.warmup", 5)),
+                parseMix(System.getProperty("loadtest.mix", "create:20,get:60,list:15,delete:5")),
+                Integer.getInteger("loadtest.seedOrders", 500),
+                System.getProperty("loadtest.reportDir", "target/loadtest"));
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            weights.put(Endpoint.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
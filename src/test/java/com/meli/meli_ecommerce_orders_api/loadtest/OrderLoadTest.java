@@ -0,0 +1,48 @@
+package com.meli.meli_ecommerce_orders_api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Reproducible HTTP load test for the order endpoints.
+ * <p>
+ * Starts the application on the {@code test} profile (H2, random port) and drives it with
+ * {@link LoadGenerator}. It is excluded from the regular build; run it with
+ * {@code mvn -Ploadtest test} and tune it through the properties documented on {@link LoadProfile}.
+ * </p>
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class OrderLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderLoadTest.class);
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void runLoad() throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        LoadGenerator generator = new LoadGenerator(URI.create("http://localhost:" + port), profile);
+
+        generator.seed(profile.seedOrders());
+        LatencyReport report = generator.run();
+        Map<String, Object> summary = report.write(profile, profile.duration().toMillis());
+
+        logger.info("Load test summary:\n{}",
+                new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(summary));
+        assertTrue(report.totalRequests() > 0, "the load test did not complete any request");
+    }
+}
@@ -0,0 +1,141 @@
+package com.meli.meli_ecommerce_orders_api.repository;
+
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import static com.meli.meli_ecommerce_orders_api.repository.OrderSpecifications.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Captures the SQL Hibernate generates for the repository queries and runs EXPLAIN on it
+ * against the Flyway-migrated H2 schema, to check each query is served by the intended index
+ * instead of a table scan.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.meli.meli_ecommerce_orders_api.repository.OrderQueryPlanTest$SqlRecorder")
+class OrderQueryPlanTest {
+
+    /**
+     * Records every SQL statement Hibernate prepares.
+     */
+    public static class SqlRecorder implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        SqlRecorder.STATEMENTS.clear();
+    }
+
+    @Test
+    void listActiveOrders_UsesActiveOrderDateIndex() {
+        orderRepository.findSummaries(isActive().and(isBefore(LocalDateTime.now(), UUID.randomUUID())), KEYSET_SORT, 21);
+
+        String plan = explainLastQuery();
+        assertTrue(plan.contains("IDX_ORDERS_ACTIVE_ORDER_DATE"), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    void listByCustomer_UsesCreatedByIndex() {
+        orderRepository.findSummaries(isActive().and(isCreatedBy(UUID.randomUUID())), KEYSET_SORT, 21);
+
+        String plan = explainLastQuery();
+        assertTrue(plan.contains("IDX_ORDERS_CREATED_BY_ORDER_DATE_ID"), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    void nextPageByCustomer_SeeksToTheCursorInTheIndex() {
+        // With empty tables every index looks equally cheap; give the planner realistic statistics.
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 200; i++) {
+            jdbcTemplate.update("insert into orders (id, created_by, status, total_price, order_date, last_updated_date) "
+                    + "values (?, ?, 'PENDING', 1, ?, ?)", UUID.randomUUID(), UUID.randomUUID(), now, now);
+        }
+        jdbcTemplate.execute("ANALYZE");
+
+        orderRepository.findSummaries(isActive().and(isCreatedBy(UUID.randomUUID()))
+                .and(isBefore(now, UUID.randomUUID())), KEYSET_SORT, 21);
+
+        String plan = explainLastQuery();
+        int index = plan.indexOf("IDX_ORDERS_CREATED_BY_ORDER_DATE_ID");
+        assertTrue(index >= 0, plan);
+        // The cursor bound must be part of the index condition, not a filter applied afterwards.
+        String indexCondition = plan.substring(index, plan.indexOf("*/", index));
+        assertTrue(indexCondition.contains("ORDER_DATE <="), plan);
+        assertTrue(indexCondition.contains("CREATED_BY ="), plan);
+    }
+
+    @Test
+    void listByStatus_UsesStatusIndex() {
+        orderRepository.findSummaries(isActive().and(hasStatus(OrderStatus.SHIPPED)), KEYSET_SORT, 21);
+
+        String plan = explainLastQuery();
+        assertTrue(plan.contains("IDX_ORDERS_STATUS_ORDER_DATE"), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    void bulkDeleteByCustomer_UsesCreatedByIndex() {
+        LocalDateTime now = LocalDateTime.now();
+        orderRepository.findActiveIdsByCreatedBy(UUID.randomUUID(), now.minusDays(1), now, Limit.of(500));
+
+        String plan = explainLastQuery();
+        assertTrue(plan.contains("IDX_ORDERS_CREATED_BY_ORDER_DATE_ID"), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    void getById_UsesPrimaryKeyAndOrderIdIndex() {
+        // The query OrderService.getOrderById runs for GET /orders/{id}.
+        orderRepository.findResponseById(UUID.randomUUID());
+
+        String plan = explainLastQuery();
+        assertTrue(plan.contains("PRIMARY_KEY"), plan);
+        // H2 serves order_id from the foreign key's own index (PostgreSQL: idx_order_line_items_order_id).
+        assertTrue(Pattern.compile("/\\* PUBLIC\\.\\w+: ORDER_ID = O1_0\\.ID \\*/").matcher(plan).find(), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    void getVersion_UsesPrimaryKeyOnly() {
+        orderRepository.findVersionById(UUID.randomUUID());
+
+        String plan = explainLastQuery();
+        assertTrue(plan.contains("PRIMARY_KEY"), plan);
+        assertFalse(plan.contains("ORDER_LINE_ITEMS"), plan);
+    }
+
+    private String explainLastQuery() {
+        String sql = SqlRecorder.STATEMENTS.get(SqlRecorder.STATEMENTS.size() - 1);
+        return jdbcTemplate.query(con -> con.prepareStatement("EXPLAIN " + sql), rs -> {
+            rs.next();
+            return rs.getString(1);
+        });
+    }
+}
@@ -0,0 +1,239 @@
+package com.meli.meli_ecommerce_orders_api.repository;
+
+import com.meli.meli_ecommerce_orders_api.dto.OrderAggregate;
+import com.meli.meli_ecommerce_orders_api.dto.OrderAnalyticsGroupBy;
+import com.meli.meli_ecommerce_orders_api.dto.OrderField;
+import com.meli.meli_ecommerce_orders_api.dto.OrderResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderSummary;
+import com.meli.meli_ecommerce_orders_api.dto.PartialOrder;
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import com.meli.meli_ecommerce_orders_api.model.OrderLineItem;
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.meli.meli_ecommerce_orders_api.repository.OrderSpecifications.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the repository queries against the embedded H2 database to check the generated SQL.
+ */
+@DataJpaTest
+class OrderRepositoryTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final UUID customer = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            orderRepository.save(newOrder(customer, OrderStatus.PENDING));
+        }
+        orderRepository.save(newOrder(UUID.randomUUID(), OrderStatus.SHIPPED));
+        Order deleted = newOrder(customer, OrderStatus.PENDING);
+        deleted.setDeletedAt(LocalDateTime.now());
+        orderRepository.save(deleted);
+        orderRepository.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void keysetPagination_VisitsEveryActiveOrderOnce() {
+        List<OrderSummary> all = orderRepository.findSummaries(isActive(), KEYSET_SORT, 100);
+        assertEquals(6, all.size());
+
+        List<UUID> visited = new ArrayList<>();
+        OrderSummary last = null;
+        do {
+            Specification<Order> spec = isActive();
+            if (last != null) {
+                spec = spec.and(isBefore(last.getOrderDate(), last.getId()));
+            }
+            List<OrderSummary> page = orderRepository.findSummaries(spec, KEYSET_SORT, 2);
+            page.forEach(order -> visited.add(order.getId()));
+            last = page.isEmpty() ? null : page.get(page.size() - 1);
+        } while (last != null);
+
+        assertEquals(all.stream().map(OrderSummary::getId).toList(), visited);
+    }
+
+    @Test
+    void filters_OnlyMatchRequestedStatusAndCustomer() {
+        List<OrderSummary> customerOrders = orderRepository.findSummaries(
+                isActive().and(isCreatedBy(customer)), KEYSET_SORT, 100);
+        List<OrderSummary> shipped = orderRepository.findSummaries(
+                isActive().and(hasStatus(OrderStatus.SHIPPED)), KEYSET_SORT, 100);
+
+        assertEquals(5, customerOrders.size());
+        assertEquals(1, shipped.size());
+    }
+
+    @Test
+    void findSummaries_CountsItemsWithoutLoadingThem() {
+        List<OrderSummary> summaries = orderRepository.findSummaries(isActive(), KEYSET_SORT, 100);
+
+        assertTrue(summaries.stream().allMatch(summary -> summary.getItemCount() == 2));
+    }
+
+    @Test
+    void findResponseById_AssemblesOrderAndItemsFromOneQuery() {
+        UUID id = orderRepository.findSummaries(isActive(), KEYSET_SORT, 1).get(0).getId();
+
+        OrderResponse response = orderRepository.findResponseById(id).orElseThrow();
+
+        assertEquals(id, response.id());
+        assertEquals(2, response.orderItems().size());
+        assertEquals(0, BigDecimal.TEN.compareTo(response.totalPrice()));
+        assertNull(response.deletedAt());
+    }
+
+    @Test
+    void findResponseById_OrderWithoutItemsHasEmptyList() {
+        Order order = newOrder(customer, OrderStatus.PENDING);
+        order.getOrderItems().clear();
+        UUID id = orderRepository.saveAndFlush(order).getId();
+        entityManager.clear();
+
+        assertEquals(List.of(), orderRepository.findResponseById(id).orElseThrow().orderItems());
+    }
+
+    @Test
+    void insertAll_KeepsAssignedIdsWithoutReadingFirst() {
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        Order assigned = newOrder(customer, OrderStatus.PENDING);
+        UUID assignedId = UUID.randomUUID();
+        assigned.setId(assignedId);
+        Order generated = newOrder(customer, OrderStatus.PENDING);
+        statistics.clear();
+
+        orderRepository.insertAll(List.of(assigned, generated));
+
+        // One batched INSERT per table; merging an entity with an id would SELECT it first.
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(assignedId, assigned.getId());
+        assertNotNull(generated.getId());
+        entityManager.clear();
+        assertEquals(2, orderRepository.findResponseById(assignedId).orElseThrow().orderItems().size());
+    }
+
+    @Test
+    void findResponseById_IgnoresDeletedOrders() {
+        Order deleted = orderRepository.findAll().stream()
+                .filter(order -> order.getDeletedAt() != null)
+                .findFirst().orElseThrow();
+
+        assertTrue(orderRepository.findResponseById(deleted.getId()).isEmpty());
+    }
+
+    @Test
+    void findPartial_SelectsOnlyRequestedFields() {
+        List<PartialOrder> orders = orderRepository.findPartial(isActive(), KEYSET_SORT, 100,
+                EnumSet.of(OrderField.ID, OrderField.STATUS, OrderField.TOTAL_PRICE));
+
+        assertEquals(6, orders.size());
+        PartialOrder first = orders.get(0);
+        assertEquals(List.of("id", "status", "totalPrice"), List.copyOf(first.fields().keySet()));
+        assertEquals(first.id(), first.fields().get("id"));
+        assertNotNull(first.orderDate());
+        assertEquals(orderRepository.findSummaries(isActive(), KEYSET_SORT, 100).stream().map(OrderSummary::getId).toList(),
+                orders.stream().map(PartialOrder::id).toList());
+    }
+
+    @Test
+    void findPartial_ReadsItemsAndCountOnlyWhenRequested() {
+        UUID id = orderRepository.findSummaries(isActive(), KEYSET_SORT, 1).get(0).getId();
+
+        PartialOrder order = orderRepository.findPartial(isActive().and(hasId(id)), KEYSET_SORT, 1,
+                EnumSet.of(OrderField.ITEM_COUNT, OrderField.ORDER_ITEMS)).get(0);
+
+        assertEquals(2L, order.fields().get("itemCount"));
+        assertEquals(2, ((List<?>) order.fields().get("orderItems")).size());
+    }
+
+    @Test
+    void updateStatus_OnlyMatchesAllowedCurrentStatus() {
+        UUID id = orderRepository.findSummaries(isActive().and(hasStatus(OrderStatus.PENDING)), KEYSET_SORT, 1)
+                .get(0).getId();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        assertEquals(1, orderRepository.updateStatus(id, Set.of(OrderStatus.PENDING), OrderStatus.PROCESSING, now));
+        // A second worker acting on the same stale status matches nothing.
+        assertEquals(0, orderRepository.updateStatus(id, Set.of(OrderStatus.PENDING), OrderStatus.CANCELLED, now));
+
+        assertEquals(OrderStatus.PROCESSING, orderRepository.findStatusById(id).orElseThrow());
+        assertEquals(now, orderRepository.findById(id).orElseThrow().getLastUpdatedDate());
+    }
+
+    @Test
+    void updateStatus_IgnoresDeletedOrders() {
+        Order deleted = orderRepository.findAll().stream()
+                .filter(order -> order.getDeletedAt() != null)
+                .findFirst().orElseThrow();
+
+        assertEquals(0, orderRepository.updateStatus(deleted.getId(), Set.of(OrderStatus.PENDING),
+                OrderStatus.PROCESSING, LocalDateTime.now()));
+        assertTrue(orderRepository.findStatusById(deleted.getId()).isEmpty());
+    }
+
+    @Test
+    void aggregate_GroupsActiveOrdersInTheDatabase() {
+        List<OrderAggregate> byStatus = orderRepository.aggregate(isActive(), OrderAnalyticsGroupBy.STATUS, 10);
+        assertEquals(List.of("PENDING", "SHIPPED"), byStatus.stream().map(OrderAggregate::getKey).toList());
+        assertEquals(5, byStatus.get(0).getOrderCount());
+        assertEquals(0, new BigDecimal("50.00").compareTo(byStatus.get(0).getRevenue()));
+
+        List<OrderAggregate> byCustomer = orderRepository.aggregate(isActive(), OrderAnalyticsGroupBy.CUSTOMER, 1);
+        assertEquals(1, byCustomer.size());
+        assertEquals(customer.toString(), byCustomer.get(0).getKey());
+    }
+
+    @Test
+    void aggregate_BucketsByTruncatedOrderDate() {
+        LocalDateTime today = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
+
+        List<OrderAggregate> byDay = orderRepository.aggregate(
+                isActive().and(isPlacedBetween(today, today.plusDays(1))), OrderAnalyticsGroupBy.DAY, 10);
+
+        assertEquals(1, byDay.size());
+        assertEquals(today.toString(), byDay.get(0).getKey());
+        assertEquals(6, byDay.get(0).getOrderCount());
+    }
+
+    private static Order newOrder(UUID createdBy, OrderStatus status) {
+        Order order = new Order();
+        order.setCreatedBy(createdBy);
+        order.setStatus(status);
+        order.setTotalPrice(BigDecimal.TEN);
+        for (int i = 0; i < 2; i++) {
+            OrderLineItem item = new OrderLineItem();
+            item.setProductId(UUID.randomUUID());
+            item.setProductName("Product " + i);
+            item.setQuantity(1);
+            item.setPricePerUnit(BigDecimal.valueOf(5));
+            item.setTotalPrice(BigDecimal.valueOf(5));
+            order.addOrderItem(item);
+        }
+        return order;
+    }
+}
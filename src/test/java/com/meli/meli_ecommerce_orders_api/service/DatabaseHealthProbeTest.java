@@ -0,0 +1,129 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.meli.meli_ecommerce_orders_api.config.OrdersProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Checks that the probe caches its result, reads the metadata once and reports failures
+ * and stale results as down, with the data source mocked.
+ */
+class DatabaseHealthProbeTest {
+
+    private static final Instant NOW = Instant.parse("2025-10-16T19:00:00Z");
+
+    private final DataSource dataSource = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+    private final OrdersProperties properties = new OrdersProperties();
+    private final MutableClock clock = new MutableClock(NOW);
+    private DatabaseHealthProbe probe;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn("H2");
+        when(metaData.getDatabaseProductVersion()).thenReturn("2.3");
+        probe = new DatabaseHealthProbe(dataSource, properties, clock);
+    }
+
+    @Test
+    void snapshot_IsDownBeforeTheFirstProbe() throws SQLException {
+        DatabaseHealthProbe.Snapshot snapshot = probe.snapshot();
+
+        assertFalse(snapshot.connected());
+        assertNull(snapshot.checkedAt());
+        verify(dataSource, never()).getConnection();
+    }
+
+    @Test
+    void snapshot_ServesTheLastProbeWithoutTouchingTheDatabase() throws SQLException {
+        when(connection.isValid(anyInt())).thenReturn(true);
+        probe.probe();
+        probe.probe();
+
+        for (int i = 0; i < 10; i++) {
+            DatabaseHealthProbe.Snapshot snapshot = probe.snapshot();
+            assertTrue(snapshot.connected());
+            assertEquals("Connected to H2 2.3", snapshot.message());
+            assertEquals(NOW, snapshot.checkedAt());
+        }
+        verify(dataSource, times(2)).getConnection();
+        verify(connection, times(2)).close();
+        verify(connection, times(1)).getMetaData();
+    }
+
+    @Test
+    void probe_ReportsFailuresAsDown() throws SQLException {
+        when(connection.isValid(anyInt())).thenReturn(true);
+        probe.probe();
+        when(dataSource.getConnection()).thenThrow(new SQLException("Connection is not available, request timed out"));
+
+        DatabaseHealthProbe.Snapshot snapshot = probe.probe();
+
+        assertFalse(snapshot.connected());
+        assertEquals("Database connection failed: Connection is not available, request timed out", snapshot.message());
+        assertFalse(probe.snapshot().connected());
+    }
+
+    @Test
+    void probe_ReportsInvalidConnectionsAsDown() throws SQLException {
+        when(connection.isValid(anyInt())).thenReturn(false);
+
+        assertFalse(probe.probe().connected());
+        verify(connection).close();
+    }
+
+    @Test
+    void snapshot_IsDownOnceTheLastSuccessIsStale() throws SQLException {
+        properties.getHealth().setMaxAge(Duration.ofSeconds(30));
+        when(connection.isValid(anyInt())).thenReturn(true);
+        probe.probe();
+
+        clock.instant = NOW.plusSeconds(30);
+        assertTrue(probe.snapshot().connected());
+
+        clock.instant = NOW.plusSeconds(31);
+        DatabaseHealthProbe.Snapshot stale = probe.snapshot();
+        assertFalse(stale.connected());
+        assertEquals(NOW, stale.checkedAt());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
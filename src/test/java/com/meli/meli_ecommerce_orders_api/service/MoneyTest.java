@@ -0,0 +1,33 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void toMinorUnits_AcceptsUpToTwoDecimals() {
+        assertEquals(1999, Money.toMinorUnits(new BigDecimal("19.99"), "price"));
+        assertEquals(1050, Money.toMinorUnits(new BigDecimal("10.5"), "price"));
+        assertEquals(500, Money.toMinorUnits(BigDecimal.valueOf(5), "price"));
+        assertEquals(new BigDecimal("10.50"), Money.toBigDecimal(1050));
+    }
+
+    @Test
+    void toMinorUnits_RejectsFractionalCentsAndMissingValues() {
+        assertThrows(IllegalArgumentException.class, () -> Money.toMinorUnits(new BigDecimal("0.001"), "price"));
+        assertThrows(IllegalArgumentException.class, () -> Money.toMinorUnits(null, "price"));
+    }
+
+    @Test
+    void arithmetic_RejectsAmountsThatDoNotFitTheColumn() {
+        assertEquals(Money.MAX_MINOR_UNITS, Money.add(Money.MAX_MINOR_UNITS - 1, 1, "total"));
+        assertThrows(IllegalArgumentException.class, () -> Money.add(Money.MAX_MINOR_UNITS, 1, "total"));
+        assertThrows(IllegalArgumentException.class, () -> Money.multiply(Long.MAX_VALUE / 2, 3, "total"));
+        assertThrows(IllegalArgumentException.class,
+                () -> Money.toMinorUnits(new BigDecimal("100000000.00"), "price"));
+    }
+}
@@ -0,0 +1,175 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.meli.meli_ecommerce_orders_api.config.CacheConfig;
+import com.meli.meli_ecommerce_orders_api.config.OrdersProperties;
+import com.meli.meli_ecommerce_orders_api.dto.BulkDeleteOrdersResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderCountersResponse;
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import com.meli.meli_ecommerce_orders_api.model.OrderEventType;
+import com.meli.meli_ecommerce_orders_api.model.OrderOutboxEvent;
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+import com.meli.meli_ecommerce_orders_api.repository.OrderOutboxRepository;
+import com.meli.meli_ecommerce_orders_api.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs bulk soft deletes against the embedded database, with a chunk size of 2 so every
+ * request spans several chunk transactions.
+ */
+@DataJpaTest(properties = "orders.bulk-delete.chunk-size=2")
+@Import({OrderBulkDeleteService.class, OrderCounters.class, RecentOrderWrites.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderBulkDeleteServiceTest {
+
+    @TestConfiguration
+    @EnableConfigurationProperties(OrdersProperties.class)
+    static class BulkDeleteTestConfig {
+        @Bean
+        public CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(CacheConfig.ORDERS_CACHE);
+        }
+    }
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderBulkDeleteService orderBulkDeleteService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private OrderCounters orderCounters;
+
+    @Autowired
+    private OrderOutboxRepository outboxRepository;
+
+    @Autowired
+    private OrdersProperties properties;
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    void testDeleteByIds_DeletesInChunksAndIgnoresUnknownIds() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(orderRepository.save(newOrder(UUID.randomUUID())).getId());
+        }
+        UUID kept = orderRepository.save(newOrder(UUID.randomUUID())).getId();
+        ids.add(UUID.randomUUID());
+        Cache cache = cacheManager.getCache(CacheConfig.ORDERS_CACHE);
+        cache.put(ids.get(0), new Order());
+        cache.put(kept, new Order());
+
+        BulkDeleteOrdersResponse response = orderBulkDeleteService.deleteByIds(ids);
+
+        assertEquals(5, response.getDeleted());
+        assertEquals(3, response.getChunks());
+        assertTrue(orderRepository.findStatusById(kept).isPresent());
+        assertTrue(orderRepository.findStatusById(ids.get(0)).isEmpty());
+        assertNull(cache.get(ids.get(0)));
+        assertNotNull(cache.get(kept));
+        // One DELETED event per deleted order, written by each chunk's transaction.
+        List<OrderOutboxEvent> events = outboxRepository.findAll();
+        assertEquals(5, events.size());
+        assertTrue(events.stream().allMatch(event -> event.getType() == OrderEventType.DELETED));
+        assertEquals(Set.copyOf(ids.subList(0, 5)),
+                events.stream().map(OrderOutboxEvent::getOrderId).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void testDeleteByCreatedBy_OnlyDeletesThatCustomerInRange() {
+        UUID seller = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            orderRepository.save(newOrder(seller));
+        }
+        UUID otherCustomerOrder = orderRepository.save(newOrder(UUID.randomUUID())).getId();
+        LocalDateTime now = LocalDateTime.now();
+        orderCounters.reconcile();
+
+        BulkDeleteOrdersResponse response =
+                orderBulkDeleteService.deleteByCreatedBy(seller, now.minusHours(1), now.plusHours(1));
+        BulkDeleteOrdersResponse again =
+                orderBulkDeleteService.deleteByCreatedBy(seller, now.minusHours(1), now.plusHours(1));
+
+        assertEquals(5, response.getDeleted());
+        assertEquals(3, response.getChunks());
+        assertEquals(0, again.getDeleted());
+        assertTrue(orderRepository.findStatusById(otherCustomerOrder).isPresent());
+        // Each chunk removed its orders from the live counters on commit.
+        OrderCountersResponse counters = orderCounters.snapshot();
+        assertEquals(1, counters.getActiveByStatus().get(OrderStatus.PENDING));
+        assertEquals(0, new BigDecimal("10.00").compareTo(counters.getRevenueToday()));
+    }
+
+    @Test
+    void testDeleteByCreatedBy_ChunkDeletedConcurrently_ContinuesWithNextChunk() {
+        OrderRepository repository = mock(OrderRepository.class);
+        TransactionTemplate template = mock(TransactionTemplate.class);
+        when(template.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        List<UUID> first = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> second = List.of(UUID.randomUUID());
+        when(repository.findActiveIdsByCreatedBy(any(), any(), any(), any())).thenReturn(first, second, List.of());
+        // Another request deletes the first chunk between its SELECT and its UPDATE.
+        when(repository.softDeleteByIdIn(eq(first), any())).thenReturn(0);
+        when(repository.softDeleteByIdIn(eq(second), any())).thenReturn(1);
+        OrderBulkDeleteService service = new OrderBulkDeleteService(repository, template, cacheManager,
+                mock(OrderCounters.class), mock(OrderOutboxRepository.class), properties,
+                mock(RecentOrderWrites.class));
+        LocalDateTime now = LocalDateTime.now();
+
+        BulkDeleteOrdersResponse response = service.deleteByCreatedBy(UUID.randomUUID(), now.minusHours(1), now);
+
+        assertEquals(1, response.getDeleted());
+        verify(repository, times(3)).findActiveIdsByCreatedBy(any(), any(), any(), any());
+    }
+
+    @Test
+    void testDeleteByCreatedBy_EmptyRange_ThrowsException() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> orderBulkDeleteService.deleteByCreatedBy(UUID.randomUUID(), now, now));
+    }
+
+    private static Order newOrder(UUID createdBy) {
+        Order order = new Order();
+        order.setCreatedBy(createdBy);
+        order.setStatus(OrderStatus.PENDING);
+        order.setTotalPrice(BigDecimal.TEN);
+        return order;
+    }
+}
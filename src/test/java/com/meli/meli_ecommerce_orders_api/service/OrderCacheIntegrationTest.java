@@ -0,0 +1,67 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.meli.meli_ecommerce_orders_api.config.CacheConfig;
+import com.meli.meli_ecommerce_orders_api.dto.CreateOrderRequest;
+import com.meli.meli_ecommerce_orders_api.dto.OrderLineItemRequest;
+import com.meli.meli_ecommerce_orders_api.dto.OrderResponse;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the order cache through the real Spring proxies, with Caffeine switched on.
+ */
+@SpringBootTest(properties = "spring.cache.type=caffeine")
+class OrderCacheIntegrationTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void testCreateThenGet_ServedFromCacheUntilDeleted() {
+        OrderResponse created = orderService.createOrder(newRequest());
+        assertNotNull(created.orderDate());
+        Cache<Object, Object> nativeCache = nativeOrdersCache();
+        long hitsBefore = nativeCache.stats().hitCount();
+
+        OrderResponse fetched = orderService.getOrderById(created.id());
+
+        assertSame(created, fetched);
+        assertEquals(hitsBefore + 1, nativeCache.stats().hitCount());
+
+        orderService.softDeleteOrder(created.id());
+
+        assertNull(nativeCache.getIfPresent(created.id()));
+        assertThrows(EntityNotFoundException.class, () -> orderService.getOrderById(created.id()));
+    }
+
+    private Cache<Object, Object> nativeOrdersCache() {
+        return ((CaffeineCache) cacheManager.getCache(CacheConfig.ORDERS_CACHE)).getNativeCache();
+    }
+
+    private static CreateOrderRequest newRequest() {
+        OrderLineItemRequest item = new OrderLineItemRequest();
+        item.setProductId(UUID.randomUUID());
+        item.setProductName("Monitor");
+        item.setQuantity(1);
+        item.setPricePerUnit(BigDecimal.valueOf(250));
+
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setCreatedBy(UUID.randomUUID());
+        request.setItems(List.of(item));
+        return request;
+    }
+}
@@ -0,0 +1,160 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.meli.meli_ecommerce_orders_api.dto.OrderCountersResponse;
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+import com.meli.meli_ecommerce_orders_api.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the live counters against the embedded database: seeding, commit-only updates
+ * and reconciliation.
+ */
+@DataJpaTest
+@Import(OrderCounters.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderCountersTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderCounters orderCounters;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.save(newOrder(OrderStatus.PENDING));
+        orderRepository.save(newOrder(OrderStatus.SHIPPED));
+        UUID older = orderRepository.save(newOrder(OrderStatus.SHIPPED)).getId();
+        // The order date is a creation timestamp, so back-date it directly.
+        jdbcTemplate.update("update orders set order_date = ? where id = ?", LocalDateTime.now().minusDays(2), older);
+        orderCounters.reconcile();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        orderCounters.reconcile();
+    }
+
+    @Test
+    void reconcile_SeedsCountsAndTodaysRevenue() {
+        OrderCountersResponse counters = orderCounters.snapshot();
+
+        assertEquals(1, counters.getActiveByStatus().get(OrderStatus.PENDING));
+        assertEquals(2, counters.getActiveByStatus().get(OrderStatus.SHIPPED));
+        assertEquals(3, counters.getActiveOrders());
+        // The order placed two days ago does not count towards today's revenue.
+        assertEquals(new BigDecimal("20.00"), counters.getRevenueToday());
+        assertNotNull(counters.getReconciledAt());
+    }
+
+    @Test
+    void recordCreated_OnlyCountsCommittedOrders() {
+        transactionTemplate.executeWithoutResult(status -> {
+            orderCounters.recordCreated(orderRepository.save(newOrder(OrderStatus.PENDING)));
+            status.setRollbackOnly();
+        });
+        assertEquals(1, orderCounters.snapshot().getActiveByStatus().get(OrderStatus.PENDING));
+
+        transactionTemplate.executeWithoutResult(status ->
+                orderCounters.recordCreated(orderRepository.save(newOrder(OrderStatus.PENDING))));
+
+        OrderCountersResponse counters = orderCounters.snapshot();
+        assertEquals(2, counters.getActiveByStatus().get(OrderStatus.PENDING));
+        assertEquals(new BigDecimal("30.00"), counters.getRevenueToday());
+        assertEquals(1, counters.getCreatedLastMinute());
+    }
+
+    @Test
+    void reconcile_CorrectsChangesMadeBehindTheCounters() {
+        orderRepository.save(newOrder(OrderStatus.DELIVERED));
+        orderCounters.recordStatusChange(OrderStatus.PENDING, OrderStatus.PROCESSING);
+
+        orderCounters.reconcile();
+
+        OrderCountersResponse counters = orderCounters.snapshot();
+        assertEquals(1, counters.getActiveByStatus().get(OrderStatus.PENDING));
+        assertEquals(0, counters.getActiveByStatus().get(OrderStatus.PROCESSING));
+        assertEquals(1, counters.getActiveByStatus().get(OrderStatus.DELIVERED));
+        assertEquals(new BigDecimal("30.00"), counters.getRevenueToday());
+    }
+
+    @Test
+    void reconcile_WaitsForWriteBetweenCommitAndUpdate() throws Exception {
+        CountDownLatch committed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> writer = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                // Registered first, so it holds the writer after the commit and before the counter update.
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        committed.countDown();
+                        awaitUninterruptibly(release);
+                    }
+                });
+                orderCounters.recordCreated(orderRepository.save(newOrder(OrderStatus.PENDING)));
+            }));
+            assertTrue(committed.await(5, TimeUnit.SECONDS));
+
+            Future<?> reconcile = executor.submit(orderCounters::reconcile);
+            assertThrows(TimeoutException.class, () -> reconcile.get(200, TimeUnit.MILLISECONDS));
+            release.countDown();
+            writer.get(5, TimeUnit.SECONDS);
+            reconcile.get(5, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+        // Counted once: by the writer's update, not again by the reconciliation.
+        assertEquals(2, orderCounters.snapshot().getActiveByStatus().get(OrderStatus.PENDING));
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Order newOrder(OrderStatus status) {
+        Order order = new Order();
+        order.setCreatedBy(UUID.randomUUID());
+        order.setStatus(status);
+        order.setTotalPrice(BigDecimal.TEN);
+        return order;
+    }
+}
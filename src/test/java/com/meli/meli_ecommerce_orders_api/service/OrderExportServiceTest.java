@@ -0,0 +1,97 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import com.meli.meli_ecommerce_orders_api.model.OrderLineItem;
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+import com.meli.meli_ecommerce_orders_api.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exports real rows from the embedded database to check the cursor-based NDJSON stream.
+ */
+@DataJpaTest
+@Import(OrderExportService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderExportServiceTest {
+
+    @TestConfiguration
+    static class ExportTestConfig {
+        @Bean
+        public ObjectMapper objectMapper() {
+            return new ObjectMapper().registerModule(new JavaTimeModule());
+        }
+    }
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testExportOrders_WritesOneLinePerOrderWithItsItems() throws Exception {
+        Map<UUID, Integer> expectedItems = new HashMap<>();
+        for (int i = 1; i <= 3; i++) {
+            Order order = newOrder(i);
+            if (i == 3) {
+                order.setDeletedAt(LocalDateTime.now());
+            }
+            expectedItems.put(orderRepository.save(order).getId(), i);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = orderExportService.exportOrders(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, exported);
+        assertEquals(3, lines.length);
+        for (String line : lines) {
+            JsonNode node = objectMapper.readTree(line);
+            UUID id = UUID.fromString(node.get("id").asText());
+            assertEquals(expectedItems.remove(id), node.get("orderItems").size());
+        }
+        assertTrue(expectedItems.isEmpty());
+
+        orderRepository.deleteAll();
+    }
+
+    private static Order newOrder(int itemCount) {
+        Order order = new Order();
+        order.setCreatedBy(UUID.randomUUID());
+        order.setStatus(OrderStatus.PENDING);
+        order.setTotalPrice(BigDecimal.valueOf(itemCount));
+        for (int i = 0; i < itemCount; i++) {
+            OrderLineItem item = new OrderLineItem();
+            item.setProductId(UUID.randomUUID());
+            item.setProductName("Product " + i);
+            item.setQuantity(1);
+            item.setPricePerUnit(BigDecimal.ONE);
+            item.setTotalPrice(BigDecimal.ONE);
+            order.addOrderItem(item);
+        }
+        return order;
+    }
+}
@@ -0,0 +1,79 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.meli.meli_ecommerce_orders_api.dto.CreateOrderRequest;
+import com.meli.meli_ecommerce_orders_api.dto.OrderLineItemRequest;
+import com.meli.meli_ecommerce_orders_api.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the ingestion queue against the real service and database, to check that the orders
+ * of a failed group are written again one by one.
+ */
+@SpringBootTest(properties = "orders.ingestion.enabled=true")
+class OrderIngestionIntegrationTest {
+
+    @MockitoSpyBean
+    private OrderService orderService;
+
+    @Autowired
+    private OrderIngestionQueue queue;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Test
+    void submit_OrderGroupedWithAnUnwritableOne_IsCommittedOnRetry() throws Exception {
+        CountDownLatch firstCommit = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            firstCommit.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(orderService).createPreparedOrders(anyList());
+
+        OrderIngestionQueue.Submission first = queue.submit(newRequest("Keyboard"));
+        assertTrue(firstCommit.await(5, TimeUnit.SECONDS));
+        // These two form the next group; the second name does not fit product_name.
+        OrderIngestionQueue.Submission good = queue.submit(newRequest("Mouse"));
+        OrderIngestionQueue.Submission bad = queue.submit(newRequest("x".repeat(300)));
+        release.countDown();
+
+        assertEquals(first.id(), first.committed().get(10, TimeUnit.SECONDS).id());
+        assertEquals(good.id(), good.committed().get(10, TimeUnit.SECONDS).id());
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> bad.committed().get(10, TimeUnit.SECONDS));
+        assertNotNull(failure.getCause());
+
+        assertTrue(orderRepository.existsById(good.id()));
+        assertFalse(orderRepository.existsById(bad.id()));
+        // The first order, the failed group, then each of its orders on its own.
+        verify(orderService, times(4)).createPreparedOrders(anyList());
+    }
+
+    private static CreateOrderRequest newRequest(String productName) {
+        OrderLineItemRequest item = new OrderLineItemRequest();
+        item.setProductId(UUID.randomUUID());
+        item.setProductName(productName);
+        item.setQuantity(1);
+        item.setPricePerUnit(BigDecimal.valueOf(40));
+
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setCreatedBy(UUID.randomUUID());
+        request.setItems(List.of(item));
+        return request;
+    }
+}
@@ -0,0 +1,181 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.meli.meli_ecommerce_orders_api.config.OrdersProperties;
+import com.meli.meli_ecommerce_orders_api.dto.CreateOrderRequest;
+import com.meli.meli_ecommerce_orders_api.dto.OrderResponse;
+import com.meli.meli_ecommerce_orders_api.exceptions.IngestionUnavailableException;
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Checks grouping, backpressure and failure handling of the ingestion queue, with the
+ * service (and therefore the database) mocked.
+ */
+class OrderIngestionQueueTest {
+
+    private final OrderService orderService = mock(OrderService.class);
+    private final OrdersProperties properties = new OrdersProperties();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private OrderIngestionQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null && queue.isRunning()) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    void submit_CommitsQueuedOrdersTogether() throws Exception {
+        when(orderService.prepareOrder(any())).thenAnswer(invocation -> newOrder());
+        CountDownLatch firstCommit = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> groupSizes = new ArrayList<>();
+        when(orderService.createPreparedOrders(anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            groupSizes.add(orders.size());
+            firstCommit.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return orders.stream().map(OrderResponse::from).toList();
+        });
+        queue = start(100, 500);
+
+        OrderIngestionQueue.Submission first = queue.submit(new CreateOrderRequest());
+        assertTrue(firstCommit.await(5, TimeUnit.SECONDS));
+        // These arrive while the first commit is in flight and form the next group.
+        List<OrderIngestionQueue.Submission> waiting = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            waiting.add(queue.submit(new CreateOrderRequest()));
+        }
+        assertEquals(10.0, registry.get("orders.ingestion.queue.depth").gauge().value());
+        release.countDown();
+
+        assertEquals(first.id(), first.committed().get(5, TimeUnit.SECONDS).id());
+        for (OrderIngestionQueue.Submission submission : waiting) {
+            assertEquals(submission.id(), submission.committed().get(5, TimeUnit.SECONDS).id());
+        }
+        assertEquals(List.of(1, 10), groupSizes);
+        assertEquals(11.0, registry.get("orders.ingestion.batch.size").summary().totalAmount());
+    }
+
+    @Test
+    void submit_RejectsWhenQueueStaysFull() throws Exception {
+        when(orderService.prepareOrder(any())).thenAnswer(invocation -> newOrder());
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderService.createPreparedOrders(anyList())).thenAnswer(invocation -> {
+            committing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            List<Order> orders = invocation.getArgument(0);
+            return orders.stream().map(OrderResponse::from).toList();
+        });
+        queue = start(1, 1);
+
+        queue.submit(new CreateOrderRequest());
+        assertTrue(committing.await(5, TimeUnit.SECONDS));
+        queue.submit(new CreateOrderRequest());
+
+        assertThrows(IngestionUnavailableException.class, () -> queue.submit(new CreateOrderRequest()));
+        assertEquals(1.0, registry.get("orders.ingestion.rejected").counter().count());
+        release.countDown();
+    }
+
+    @Test
+    void submit_FailsEveryOrderOfAFailedGroup() {
+        when(orderService.prepareOrder(any())).thenAnswer(invocation -> newOrder());
+        when(orderService.createPreparedOrders(anyList())).thenThrow(new IllegalStateException("database down"));
+        queue = start(100, 500);
+
+        CompletableFuture<OrderResponse> committed = queue.submit(new CreateOrderRequest()).committed();
+
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> committed.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+    }
+
+    @Test
+    void submit_RetriesAFailedGroupOrderByOrder() throws Exception {
+        when(orderService.prepareOrder(any())).thenAnswer(invocation -> newOrder());
+        CountDownLatch firstCommit = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<UUID> rejectedIds = new ArrayList<>();
+        List<Integer> groupSizes = new ArrayList<>();
+        when(orderService.createPreparedOrders(anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            groupSizes.add(orders.size());
+            firstCommit.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            if (orders.stream().anyMatch(order -> rejectedIds.contains(order.getId()))) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return orders.stream().map(OrderResponse::from).toList();
+        });
+        queue = start(100, 500);
+
+        OrderIngestionQueue.Submission first = queue.submit(new CreateOrderRequest());
+        assertTrue(firstCommit.await(5, TimeUnit.SECONDS));
+        // These three form the next group, and the middle one cannot be written.
+        OrderIngestionQueue.Submission before = queue.submit(new CreateOrderRequest());
+        OrderIngestionQueue.Submission bad = queue.submit(new CreateOrderRequest());
+        OrderIngestionQueue.Submission after = queue.submit(new CreateOrderRequest());
+        rejectedIds.add(bad.id());
+        release.countDown();
+
+        assertEquals(first.id(), first.committed().get(5, TimeUnit.SECONDS).id());
+        assertEquals(before.id(), before.committed().get(5, TimeUnit.SECONDS).id());
+        assertEquals(after.id(), after.committed().get(5, TimeUnit.SECONDS).id());
+        ExecutionException failure = assertThrows(ExecutionException.class,
+                () -> bad.committed().get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+        assertEquals(List.of(1, 3, 1, 1, 1), groupSizes);
+        // The retries are not groups: only the two real groups are recorded.
+        assertEquals(2, registry.get("orders.ingestion.batch.size").summary().count());
+        assertEquals(4.0, registry.get("orders.ingestion.batch.size").summary().totalAmount());
+    }
+
+    @Test
+    void submit_RefusesOrdersWhenStopped() {
+        when(orderService.prepareOrder(any())).thenAnswer(invocation -> newOrder());
+        queue = start(100, 500);
+        queue.stop();
+
+        assertThrows(IngestionUnavailableException.class, () -> queue.submit(new CreateOrderRequest()));
+        verify(orderService, never()).createPreparedOrders(anyList());
+    }
+
+    private OrderIngestionQueue start(int capacity, int maxBatchSize) {
+        properties.getIngestion().setCapacity(capacity);
+        properties.getIngestion().setMaxBatchSize(maxBatchSize);
+        properties.getIngestion().setOfferTimeout(Duration.ofMillis(10));
+        OrderIngestionQueue started = new OrderIngestionQueue(orderService, properties, registry);
+        started.start();
+        return started;
+    }
+
+    private static Order newOrder() {
+        Order order = new Order();
+        order.setId(UUID.randomUUID());
+        order.setCreatedBy(UUID.randomUUID());
+        order.setStatus(OrderStatus.PENDING);
+        order.setTotalPrice(BigDecimal.TEN);
+        return order;
+    }
+}
@@ -0,0 +1,181 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.meli.meli_ecommerce_orders_api.config.OrdersProperties;
+import com.meli.meli_ecommerce_orders_api.dto.OrderEvent;
+import com.meli.meli_ecommerce_orders_api.model.Order;
+import com.meli.meli_ecommerce_orders_api.model.OrderEventType;
+import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+import com.meli.meli_ecommerce_orders_api.repository.OrderOutboxRepository;
+import com.meli.meli_ecommerce_orders_api.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the outbox against the embedded database: events written by INSERT ... SELECT,
+ * batched relaying, and retry after a failed publish.
+ */
+@DataJpaTest(properties = "orders.outbox.batch-size=2")
+@Import({OrderOutboxRelay.class, OrderOutboxRelayTest.RecordingPublisherConfig.class})
+@EnableConfigurationProperties(OrdersProperties.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderOutboxRelayTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderOutboxRepository outboxRepository;
+
+    @Autowired
+    private OrderOutboxRelay relay;
+
+    @Autowired
+    private RecordingPublisher publisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        publisher.events.clear();
+        publisher.failing = false;
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAllInBatch();
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    void insertQueries_CopyTheOrderAsWritten() {
+        Order order = orderRepository.save(newOrder());
+        LocalDateTime deletedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxRepository.insertCreated(List.of(order.getId()));
+            orderRepository.updateStatus(order.getId(), List.of(OrderStatus.PENDING), OrderStatus.PROCESSING,
+                    LocalDateTime.now());
+            outboxRepository.insertStatusChanged(order.getId(), OrderStatus.PENDING);
+            orderRepository.softDeleteByIdIn(List.of(order.getId()), deletedAt);
+            outboxRepository.insertDeleted(List.of(order.getId()), deletedAt);
+        });
+
+        assertEquals(3, relay.relay());
+
+        List<OrderEvent> events = publisher.events;
+        assertEquals(List.of(OrderEventType.CREATED, OrderEventType.STATUS_CHANGED, OrderEventType.DELETED),
+                events.stream().map(OrderEvent::type).toList());
+        assertTrue(events.stream().allMatch(event -> event.orderId().equals(order.getId())
+                && event.createdBy().equals(order.getCreatedBy())));
+        assertEquals(OrderStatus.PENDING, events.get(0).status());
+        assertNull(events.get(0).previousStatus());
+        assertEquals(OrderStatus.PROCESSING, events.get(1).status());
+        assertEquals(OrderStatus.PENDING, events.get(1).previousStatus());
+        assertEquals(deletedAt, events.get(2).occurredAt());
+        assertEquals(0, events.get(2).totalPrice().compareTo(BigDecimal.TEN));
+    }
+
+    @Test
+    void relay_DrainsInBatchesAndDeletesPublishedEvents() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(orderRepository.save(newOrder()).getId());
+        }
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.insertCreated(ids));
+
+        assertEquals(5, relay.relay());
+
+        assertEquals(5, publisher.events.size());
+        assertEquals(3, publisher.batches);
+        assertEquals(0, outboxRepository.count());
+        List<Long> eventIds = publisher.events.stream().map(OrderEvent::eventId).toList();
+        assertEquals(eventIds.stream().sorted().toList(), eventIds);
+    }
+
+    @Test
+    void relay_KeepsEventsWhenPublishingFails() {
+        Order order = orderRepository.save(newOrder());
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.insertCreated(List.of(order.getId())));
+        publisher.failing = true;
+
+        assertEquals(0, relay.relay());
+        assertEquals(1, outboxRepository.count());
+
+        publisher.failing = false;
+        assertEquals(1, relay.relay());
+        assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    void filePublisher_AppendsOneJsonLinePerEvent(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("events/orders.ndjson");
+        FileOrderEventPublisher filePublisher = new FileOrderEventPublisher(file,
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+        OrderEvent event = new OrderEvent(1L, OrderEventType.CREATED, UUID.randomUUID(), UUID.randomUUID(),
+                OrderStatus.PENDING, null, BigDecimal.TEN, LocalDateTime.now());
+
+        filePublisher.publish(List.of(event));
+        filePublisher.publish(List.of(event, event));
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).contains("\"type\":\"CREATED\""));
+    }
+
+    private static Order newOrder() {
+        Order order = new Order();
+        order.setCreatedBy(UUID.randomUUID());
+        order.setStatus(OrderStatus.PENDING);
+        order.setTotalPrice(BigDecimal.TEN);
+        return order;
+    }
+
+    static class RecordingPublisher implements OrderEventPublisher {
+
+        final List<OrderEvent> events = new ArrayList<>();
+        int batches;
+        boolean failing;
+
+        @Override
+        public void publish(List<OrderEvent> batch) {
+            if (failing) {
+                throw new IllegalStateException("broker unavailable");
+            }
+            batches++;
+            events.addAll(batch);
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingPublisherConfig {
+
+        @Bean
+        RecordingPublisher recordingPublisher() {
+            return new RecordingPublisher();
+        }
+    }
+}
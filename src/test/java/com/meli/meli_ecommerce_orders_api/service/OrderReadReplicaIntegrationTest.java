@@ -0,0 +1,90 @@
+package com.meli.meli_ecommerce_orders_api.service;
+
+import com.meli.meli_ecommerce_orders_api.dto.CreateOrderRequest;
+import com.meli.meli_ecommerce_orders_api.dto.OrderLineItemRequest;
+import com.meli.meli_ecommerce_orders_api.dto.OrderResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderSummary;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routes reads between two H2 databases: the primary, and a replica that Flyway creates but
+ * that never receives the orders written here, so every read shows where it was served from.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary",
+        "orders.replica.enabled=true",
+        "orders.replica.url=jdbc:h2:mem:routing-replica",
+        "orders.replica.username=sa",
+        "orders.replica.password=12345",
+        "orders.replica.driver-class-name=org.h2.Driver",
+        "orders.replica.migrate=true",
+        "orders.replica.retry-interval=1h"
+})
+@DirtiesContext
+class OrderReadReplicaIntegrationTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replicaDataSource;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private DatabaseHealthProbe databaseHealthProbe;
+
+    @Test
+    void testReads_ServedByReplicaExceptRecentWrites_ThenByPrimaryWhenReplicaIsDown() {
+        UUID customer = UUID.randomUUID();
+        OrderResponse created = orderService.createOrder(newRequest(customer));
+
+        // The listing reads the replica, which does not have the order.
+        assertTrue(listedIds(customer).isEmpty());
+        assertEquals(1.0, registry.get("orders.replica.available").gauge().value());
+
+        // The order was just written here, so it is read back from the primary.
+        assertEquals(created.id(), orderService.getOrderById(created.id()).id());
+        assertNotNull(orderService.getOrderVersion(created.id()));
+
+        replicaDataSource.close();
+
+        assertEquals(List.of(created.id()), listedIds(customer));
+        assertEquals(0.0, registry.get("orders.replica.available").gauge().value());
+        // Health reflects the primary, which is still up.
+        assertTrue(databaseHealthProbe.probe().connected());
+    }
+
+    private List<UUID> listedIds(UUID customer) {
+        return orderService.getActiveOrders(null, 10, null, customer).getItems().stream()
+                .map(OrderSummary::getId)
+                .toList();
+    }
+
+    private static CreateOrderRequest newRequest(UUID customer) {
+        OrderLineItemRequest item = new OrderLineItemRequest();
+        item.setProductId(UUID.randomUUID());
+        item.setProductName("Keyboard");
+        item.setQuantity(1);
+        item.setPricePerUnit(BigDecimal.valueOf(80));
+
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setCreatedBy(customer);
+        request.setItems(List.of(item));
+        return request;
+    }
+}
@@ -1,15 +1,30 @@
 package com.meli.meli_ecommerce_orders_api.service;
 
+import com.meli.meli_ecommerce_orders_api.config.OrdersProperties;
+import com.meli.meli_ecommerce_orders_api.dto.BatchCreateOrderResponse;
 import com.meli.meli_ecommerce_orders_api.dto.CreateOrderRequest;
+import com.meli.meli_ecommerce_orders_api.dto.CursorPage;
 import com.meli.meli_ecommerce_orders_api.dto.OrderLineItemRequest;
+import com.meli.meli_ecommerce_orders_api.dto.OrderResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderStatusResponse;
+import com.meli.meli_ecommerce_orders_api.dto.OrderSummary;
+import com.meli.meli_ecommerce_orders_api.exceptions.InvalidCursorException;
+import com.meli.meli_ecommerce_orders_api.exceptions.InvalidRequestException;
+import com.meli.meli_ecommerce_orders_api.exceptions.InvalidStatusTransitionException;
 import com.meli.meli_ecommerce_orders_api.model.Order;
 import com.meli.meli_ecommerce_orders_api.model.OrderLineItem;
 import com.meli.meli_ecommerce_orders_api.model.OrderStatus;
+import com.meli.meli_ecommerce_orders_api.repository.OrderAmount;
+import com.meli.meli_ecommerce_orders_api.repository.OrderOutboxRepository;
 import com.meli.meli_ecommerce_orders_api.repository.OrderRepository;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -22,6 +37,21 @@ class OrderServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderCounters orderCounters;
+
+    @Mock
+    private OrderOutboxRepository outboxRepository;
+
+    @Mock
+    private RecentOrderWrites recentOrderWrites;
+
+    @Spy
+    private OrdersProperties properties = new OrdersProperties();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private OrderService orderService;
 
@@ -55,36 +85,148 @@ class OrderServiceTest {
 
         request.setItems(List.of(item1, item2));
 
-        when(orderRepository.save(any(Order.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderRepository.saveAndFlush(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            order.setId(UUID.randomUUID());
+            return order;
+        });
 
-        Order savedOrder = orderService.createOrder(request);
+        OrderResponse savedOrder = orderService.createOrder(request);
 
         assertNotNull(savedOrder);
-        assertEquals(userId, savedOrder.getCreatedBy());
-        assertEquals(OrderStatus.PENDING, savedOrder.getStatus());
-        assertEquals(BigDecimal.valueOf(1050), savedOrder.getTotalPrice());
-        assertEquals(2, savedOrder.getOrderItems().size());
+        assertEquals(userId, savedOrder.createdBy());
+        assertEquals(OrderStatus.PENDING, savedOrder.status());
+        assertEquals(new BigDecimal("1050.00"), savedOrder.totalPrice());
+        assertEquals(2, savedOrder.orderItems().size());
+
+        verify(orderRepository, times(1)).saveAndFlush(any(Order.class));
+        verify(outboxRepository).insertCreated(List.of(savedOrder.id()));
+        verify(orderCounters).recordCreated(any(Order.class));
+    }
 
-        verify(orderRepository, times(1)).save(any(Order.class));
+    // ---------------------------------------------------------
+    // Test createOrders()
+    // ---------------------------------------------------------
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCreateOrders_SavesValidOrdersInOneCallAndReportsInvalidOnes() {
+        CreateOrderRequest valid1 = newRequest();
+        CreateOrderRequest invalid = new CreateOrderRequest(); // Missing required fields
+        CreateOrderRequest valid2 = newRequest();
+
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            orders.forEach(order -> order.setId(UUID.randomUUID()));
+            return orders;
+        });
+
+        BatchCreateOrderResponse response = orderService.createOrders(List.of(valid1, invalid, valid2));
+
+        assertEquals(3, response.getRequested());
+        assertEquals(2, response.getCreated());
+        assertEquals(1, response.getFailed());
+        assertTrue(response.getResults().get(0).isSuccess());
+        assertFalse(response.getResults().get(1).isSuccess());
+        assertEquals(2, response.getResults().get(1).getErrors().size());
+        assertTrue(response.getResults().get(2).isSuccess());
+        assertNotNull(response.getResults().get(2).getOrderId());
+
+        ArgumentCaptor<List<Order>> saved = ArgumentCaptor.forClass(List.class);
+        verify(orderRepository, times(1)).saveAll(saved.capture());
+        assertEquals(2, saved.getValue().size());
+        // The CREATED events of the whole batch are written with one statement.
+        verify(outboxRepository, times(1)).insertCreated(saved.getValue().stream().map(Order::getId).toList());
+    }
+
+    @Test
+    void testCreateOrders_TotalTooLarge_RejectsOnlyThatOrder() {
+        CreateOrderRequest tooLarge = newRequest();
+        tooLarge.getItems().get(0).setPricePerUnit(new BigDecimal("99999999.99"));
+        tooLarge.getItems().get(0).setQuantity(2);
+
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BatchCreateOrderResponse response = orderService.createOrders(List.of(tooLarge, newRequest()));
+
+        assertEquals(1, response.getCreated());
+        assertFalse(response.getResults().get(0).isSuccess());
+        assertTrue(response.getResults().get(0).getErrors().get(0).contains("exceeds the maximum amount"));
+    }
+
+    @Test
+    void testCreateOrders_TooManyOrders_ThrowsException() {
+        properties.getBatch().setMaxSize(1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> orderService.createOrders(List.of(newRequest(), newRequest())));
+        verify(orderRepository, never()).saveAll(anyList());
     }
 
     // ---------------------------------------------------------
-    // Test getAllActiveOrders()
+    // Test getActiveOrders()
     // ---------------------------------------------------------
     @Test
-    void testGetAllActiveOrders_ReturnsList() {
-        Order order1 = new Order();
-        order1.setId(UUID.randomUUID());
-        Order order2 = new Order();
-        order2.setId(UUID.randomUUID());
+    void testGetActiveOrders_LastPage_HasNoNextCursor() {
+        OrderSummary order1 = newOrderAt(LocalDateTime.now());
+        OrderSummary order2 = newOrderAt(LocalDateTime.now().minusMinutes(1));
+
+        when(orderRepository.findSummaries(any(Specification.class), any(Sort.class), anyInt())).thenReturn(List.of(order1, order2));
+
+        CursorPage<OrderSummary> result = orderService.getActiveOrders(null, 5, null, null);
+
+        assertEquals(2, result.getSize());
+        assertNull(result.getNext());
+    }
+
+    @Test
+    void testGetActiveOrders_MoreRows_ReturnsCursorAfterLastItem() {
+        OrderSummary order1 = newOrderAt(LocalDateTime.now());
+        OrderSummary order2 = newOrderAt(LocalDateTime.now().minusMinutes(1));
+        OrderSummary order3 = newOrderAt(LocalDateTime.now().minusMinutes(2));
+
+        when(orderRepository.findSummaries(any(Specification.class), any(Sort.class), anyInt())).thenReturn(List.of(order1, order2, order3));
+
+        CursorPage<OrderSummary> result = orderService.getActiveOrders(null, 2, null, null);
+
+        assertEquals(2, result.getSize());
+        OrderCursor next = OrderCursor.decode(result.getNext());
+        assertEquals(order2.getId(), next.id());
+        assertEquals(order2.getOrderDate(), next.orderDate());
+    }
+
+    @Test
+    void testGetActiveOrders_LimitIsClampedToMaxPageSize() {
+        properties.getPagination().setMaxPageSize(3);
+        List<OrderSummary> rows = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            rows.add(newOrderAt(LocalDateTime.now().minusMinutes(i)));
+        }
+
+        when(orderRepository.findSummaries(any(Specification.class), any(Sort.class), anyInt())).thenReturn(rows);
+
+        CursorPage<OrderSummary> result = orderService.getActiveOrders(null, 500, null, null);
+
+        assertEquals(3, result.getSize());
+        assertNotNull(result.getNext());
+    }
+
+    @Test
+    void testGetActiveOrders_InvalidLimit_ThrowsException() {
+        assertThrows(InvalidRequestException.class, () -> orderService.getActiveOrders(null, 0, null, null));
+    }
 
-        when(orderRepository.findByDeletedAtIsNull()).thenReturn(List.of(order1, order2));
+    @Test
+    void testGetActiveOrders_InvalidCursor_ThrowsException() {
+        assertThrows(InvalidCursorException.class,
+                () -> orderService.getActiveOrders("not-a-cursor", null, null, null));
+        verify(orderRepository, never()).findSummaries(any(Specification.class), any(Sort.class), anyInt());
+    }
 
-        List<Order> result = orderService.getAllActiveOrders();
+    @Test
+    void testOrderCursor_RoundTrip() {
+        OrderCursor cursor = new OrderCursor(LocalDateTime.of(2025, 10, 16, 19, 10, 0, 123456000), UUID.randomUUID());
 
-        assertEquals(2, result.size());
-        verify(orderRepository, times(1)).findByDeletedAtIsNull();
+        assertEquals(cursor, OrderCursor.decode(cursor.encode()));
     }
 
     // ---------------------------------------------------------
@@ -93,27 +235,23 @@ class OrderServiceTest {
     @Test
     void testGetOrderById_FoundAndActive() {
         UUID id = UUID.randomUUID();
-        Order order = new Order();
-        order.setId(id);
-        order.setDeletedAt(null);
+        OrderResponse order = new OrderResponse(id, UUID.randomUUID(), List.of(), BigDecimal.TEN,
+                OrderStatus.PENDING, null, LocalDateTime.now(), null);
 
-        when(orderRepository.findById(id)).thenReturn(Optional.of(order));
+        when(orderRepository.findResponseById(id)).thenReturn(Optional.of(order));
 
-        Order result = orderService.getOrderById(id);
+        OrderResponse result = orderService.getOrderById(id);
 
-        assertNotNull(result);
-        assertEquals(id, result.getId());
-        verify(orderRepository).findById(id);
+        assertSame(order, result);
+        verify(orderRepository).findResponseById(id);
     }
 
     @Test
     void testGetOrderById_Deleted_ThrowsException() {
         UUID id = UUID.randomUUID();
-        Order order = new Order();
-        order.setId(id);
-        order.setDeletedAt(LocalDateTime.now());
 
-        when(orderRepository.findById(id)).thenReturn(Optional.of(order));
+        // Deleted orders are filtered out by the query itself.
+        when(orderRepository.findResponseById(id)).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> orderService.getOrderById(id));
     }
@@ -122,36 +260,125 @@ class OrderServiceTest {
     void testGetOrderById_NotFound_ThrowsException() {
         UUID id = UUID.randomUUID();
 
-        when(orderRepository.findById(id)).thenReturn(Optional.empty());
+        when(orderRepository.findResponseById(id)).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> orderService.getOrderById(id));
     }
 
+    @Test
+    void testGetOrderVersion_NotFound_ThrowsException() {
+        UUID id = UUID.randomUUID();
+        when(orderRepository.findVersionById(id)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> orderService.getOrderVersion(id));
+        verify(orderRepository, never()).findResponseById(any());
+    }
+
     // ---------------------------------------------------------
     // Test softDeleteOrder()
     // ---------------------------------------------------------
     @Test
     void testSoftDeleteOrder_Success() {
         UUID id = UUID.randomUUID();
-        Order order = new Order();
-        order.setId(id);
-        order.setDeletedAt(null);
 
-        when(orderRepository.findById(id)).thenReturn(Optional.of(order));
-        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderRepository.softDeleteById(eq(id), any(LocalDateTime.class))).thenReturn(1);
+
+        OrderAmount amount = mock(OrderAmount.class);
+        when(orderRepository.findAmountById(id)).thenReturn(Optional.of(amount));
 
-        Order deleted = orderService.softDeleteOrder(id);
+        orderService.softDeleteOrder(id);
 
-        assertNotNull(deleted.getDeletedAt());
-        verify(orderRepository).save(order);
+        verify(orderRepository).softDeleteById(eq(id), any(LocalDateTime.class));
+        verify(outboxRepository).insertDeleted(eq(List.of(id)), any(LocalDateTime.class));
+        verify(orderCounters).recordDeleted(amount);
+        verify(orderRepository, never()).findById(any());
+        verify(orderRepository, never()).save(any(Order.class));
     }
 
     @Test
     void testSoftDeleteOrder_NotFound_ThrowsException() {
         UUID id = UUID.randomUUID();
 
-        when(orderRepository.findById(id)).thenReturn(Optional.empty());
+        when(orderRepository.softDeleteById(eq(id), any(LocalDateTime.class))).thenReturn(0);
 
         assertThrows(EntityNotFoundException.class, () -> orderService.softDeleteOrder(id));
     }
+
+    // ---------------------------------------------------------
+    // Test updateOrderStatus()
+    // ---------------------------------------------------------
+    @Test
+    void testUpdateOrderStatus_Success_TriesEachAllowedSource() {
+        UUID id = UUID.randomUUID();
+        when(orderRepository.updateStatus(eq(id), eq(Set.of(OrderStatus.PROCESSING)),
+                eq(OrderStatus.CANCELLED), any(LocalDateTime.class))).thenReturn(1);
+
+        OrderStatusResponse response = orderService.updateOrderStatus(id, OrderStatus.CANCELLED, null);
+
+        assertEquals(OrderStatus.CANCELLED, response.getStatus());
+        verify(orderRepository).updateStatus(eq(id), eq(Set.of(OrderStatus.PENDING)),
+                eq(OrderStatus.CANCELLED), any(LocalDateTime.class));
+        verify(outboxRepository).insertStatusChanged(id, OrderStatus.PROCESSING);
+        verify(orderCounters).recordStatusChange(OrderStatus.PROCESSING, OrderStatus.CANCELLED);
+        verify(orderRepository, never()).findStatusById(any());
+        verify(orderRepository, never()).findById(any());
+    }
+
+    @Test
+    void testUpdateOrderStatus_NoMatch_NotFound() {
+        UUID id = UUID.randomUUID();
+        when(orderRepository.updateStatus(eq(id), anyCollection(), any(), any())).thenReturn(0);
+        when(orderRepository.findStatusById(id)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class,
+                () -> orderService.updateOrderStatus(id, OrderStatus.PROCESSING, null));
+    }
+
+    @Test
+    void testUpdateOrderStatus_NoMatch_Conflict() {
+        UUID id = UUID.randomUUID();
+        when(orderRepository.updateStatus(eq(id), anyCollection(), any(), any())).thenReturn(0);
+        when(orderRepository.findStatusById(id)).thenReturn(Optional.of(OrderStatus.SHIPPED));
+
+        assertThrows(InvalidStatusTransitionException.class,
+                () -> orderService.updateOrderStatus(id, OrderStatus.SHIPPED, OrderStatus.PROCESSING));
+    }
+
+    @Test
+    void testUpdateOrderStatus_TransitionNotAllowed_NoUpdate() {
+        UUID id = UUID.randomUUID();
+        when(orderRepository.findStatusById(id)).thenReturn(Optional.of(OrderStatus.PENDING));
+
+        assertThrows(InvalidStatusTransitionException.class,
+                () -> orderService.updateOrderStatus(id, OrderStatus.DELIVERED, OrderStatus.PENDING));
+        verify(orderRepository, never()).updateStatus(any(), anyCollection(), any(), any());
+    }
+
+    @Test
+    void testUpdateOrderStatus_TransitionNotAllowed_MissingOrderIsNotFound() {
+        UUID id = UUID.randomUUID();
+        when(orderRepository.findStatusById(id)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class,
+                () -> orderService.updateOrderStatus(id, OrderStatus.DELIVERED, OrderStatus.PENDING));
+        verify(orderRepository, never()).updateStatus(any(), anyCollection(), any(), any());
+    }
+
+    private static CreateOrderRequest newRequest() {
+        OrderLineItemRequest item = new OrderLineItemRequest();
+        item.setProductId(UUID.randomUUID());
+        item.setProductName("Keyboard");
+        item.setQuantity(1);
+        item.setPricePerUnit(BigDecimal.valueOf(100));
+
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setCreatedBy(UUID.randomUUID());
+        request.setItems(List.of(item));
+        return request;
+    }
+
+    private static OrderSummary newOrderAt(LocalDateTime orderDate) {
+        return new OrderSummary(UUID.randomUUID(), UUID.randomUUID(), OrderStatus.PENDING,
+                BigDecimal.TEN, orderDate, 1);
+    }
 }
@@ -0,0 +1,140 @@
+#!/bin/bash
+# ---
+# Startup Benchmark for the E-commerce Service
+# ---
+# Measures, for each build variant, the time from 'docker run' to the first successful
+# GET /api/v1/orders and the resident memory (VmRSS) of the process at that moment.
+#
+# Variants:
+#   jvm      - Dockerfile image with AOT and the CDS archive turned off (plain 'java -jar')
+#   aot-cds  - Dockerfile image as deployed (Spring AOT + CDS archive)
+#   native   - Dockerfile.native image (GraalVM native executable)
+#
+# All variants run the 'prod' profile against the same PostgreSQL container, with the
+# schema already migrated by an untimed warm-up start, and the same JAVA_OPTS as Render.
+# Container creation is included in every measurement, so compare variants, not absolutes.
+#
+# Usage:   ./startup-benchmark.sh            (RUNS=5 by default)
+#          RUNS=10 VARIANTS="jvm aot-cds" ./startup-benchmark.sh
+# Needs:   Docker and a Linux host (RSS is read from /proc of the container process).
+# Output:  a table of medians, and every run in target/startup/results.csv
+# ---
+
+set -euo pipefail
+
+RUNS=${RUNS:-5}
+VARIANTS=${VARIANTS:-"jvm aot-cds native"}
+PORT=${PORT:-18080}
+JAVA_OPTS=${JAVA_OPTS:-"-Xmx512m -Xms256m"}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-120}
+
+NETWORK=meli-startup-bench
+DB_CONTAINER=meli-startup-db
+APP_CONTAINER=meli-startup-app
+RESULTS_DIR=target/startup
+RESULTS_FILE="$RESULTS_DIR/results.csv"
+
+cleanup() {
+    docker rm -f "$APP_CONTAINER" "$DB_CONTAINER" >/dev/null 2>&1 || true
+    docker network rm "$NETWORK" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+image_for() {
+    case "$1" in
+        jvm|aot-cds) echo "meli-orders-api:jvm" ;;
+        native) echo "meli-orders-api:native" ;;
+        *) echo "Unknown variant: $1" >&2; exit 1 ;;
+    esac
+}
+
+# JVM options per variant (the native executable ignores JAVA_OPTS)
+java_opts_for() {
+    case "$1" in
+        jvm) echo "-Xshare:off $JAVA_OPTS" ;;
+        *) echo "$JAVA_OPTS" ;;
+    esac
+}
+
+# Spring AOT on or off per variant
+aot_enabled_for() {
+    case "$1" in
+        jvm) echo "false" ;;
+        *) echo "true" ;;
+    esac
+}
+
+# Starts one variant and prints "<milliseconds to first 200> <RSS in KiB>"
+measure() {
+    local variant=$1 image start end pid rss deadline
+    image=$(image_for "$variant")
+    docker rm -f "$APP_CONTAINER" >/dev/null 2>&1 || true
+
+    start=$(date +%s%N)
+    docker run -d --name "$APP_CONTAINER" --network "$NETWORK" -p "$PORT:8080" \
+        -e SPRING_PROFILES_ACTIVE=prod \
+        -e PROD_DB_URL="jdbc:postgresql://$DB_CONTAINER:5432/orders" \
+        -e PROD_DB_USER=orders -e PROD_DB_PASSWORD=orders \
+        -e JAVA_OPTS="$(java_opts_for "$variant")" \
+        -e SPRING_AOT_ENABLED="$(aot_enabled_for "$variant")" \
+        "$image" >/dev/null
+
+    deadline=$((SECONDS + TIMEOUT_SECONDS))
+    until curl -fs -o /dev/null "http://localhost:$PORT/api/v1/orders"; do
+        if [ "$SECONDS" -ge "$deadline" ]; then
+            echo "ERROR: $variant did not answer within ${TIMEOUT_SECONDS}s" >&2
+            docker logs --tail 50 "$APP_CONTAINER" >&2
+            exit 1
+        fi
+        sleep 0.02
+    done
+    end=$(date +%s%N)
+
+    pid=$(docker inspect -f '{{.State.Pid}}' "$APP_CONTAINER")
+    rss=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+    docker rm -f "$APP_CONTAINER" >/dev/null
+    echo "$(((end - start) / 1000000)) $rss"
+}
+
+median() {
+    sort -n | awk '{v[NR] = $1} END {print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2)}'
+}
+
+echo "Building images..."
+docker build -q -t meli-orders-api:jvm -f Dockerfile . >/dev/null
+if [[ " $VARIANTS " == *" native "* ]]; then
+    docker build -q -t meli-orders-api:native -f Dockerfile.native . >/dev/null
+fi
+
+echo "Starting PostgreSQL..."
+docker network create "$NETWORK" >/dev/null
+docker run -d --name "$DB_CONTAINER" --network "$NETWORK" \
+    -e POSTGRES_DB=orders -e POSTGRES_USER=orders -e POSTGRES_PASSWORD=orders \
+    postgres:16-alpine >/dev/null
+until docker exec "$DB_CONTAINER" pg_isready -U orders -d orders >/dev/null 2>&1; do
+    sleep 0.5
+done
+
+# Untimed start: applies the Flyway migrations so every measured run sees the same schema
+echo "Warm-up start (schema migration)..."
+measure "$(echo "$VARIANTS" | awk '{print $1}')" >/dev/null
+
+mkdir -p "$RESULTS_DIR"
+echo "variant,run,first_response_ms,rss_kib" > "$RESULTS_FILE"
+for variant in $VARIANTS; do
+    for run in $(seq 1 "$RUNS"); do
+        read -r millis rss < <(measure "$variant")
+        echo "$variant,$run,$millis,$rss" >> "$RESULTS_FILE"
+        echo "  $variant run $run: ${millis} ms, $((rss / 1024)) MiB"
+    done
+done
+
+echo
+printf "%-8s | %-24s | %-14s\n" "Variant" "First /orders (median ms)" "RSS (median MiB)"
+for variant in $VARIANTS; do
+    millis=$(awk -F, -v v="$variant" '$1 == v {print $3}' "$RESULTS_FILE" | median)
+    rss=$(awk -F, -v v="$variant" '$1 == v {print $4}' "$RESULTS_FILE" | median)
+    printf "%-8s | %-24s | %-14s\n" "$variant" "$millis" "$((rss / 1024))"
+done
+echo
+echo "All runs: $RESULTS_FILE"